@@ -0,0 +1,114 @@
+package ru.practicum.shareit.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import ru.practicum.shareit.booking.dto.BookItemRequestDto;
+import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.item.dto.ItemShortDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class BaseClientBenchmark {
+    private static final int PAGE_SIZE = 20;
+
+    private BenchmarkClient client;
+    private ItemShortDto item;
+    private BookItemRequestDto booking;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        item = item(1);
+        booking = new BookItemRequestDto(1L, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2));
+        List<ItemShortDto> page = IntStream.rangeClosed(1, PAGE_SIZE)
+                .mapToObj(BaseClientBenchmark::item)
+                .collect(Collectors.toList());
+        byte[] body = Jackson2ObjectMapperBuilder.json().build().writeValueAsBytes(page);
+        client = new BenchmarkClient(new RestTemplateBuilder()
+                .uriTemplateHandler(new DefaultUriBuilderFactory("http://localhost:9090"))
+                .requestFactory(() -> stubServer(body))
+                .build());
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> getPage() {
+        return client.getItems();
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> postItem() {
+        return client.createItem(item);
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> postBooking() {
+        return client.createBooking(booking);
+    }
+
+    // Answers every request in memory, so only the client's own conversion work is measured.
+    private static ClientHttpRequestFactory stubServer(byte[] body) {
+        return (uri, method) -> {
+            MockClientHttpRequest request = new MockClientHttpRequest(method, uri);
+            MockClientHttpResponse response = new MockClientHttpResponse(body, HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            request.setResponse(response);
+            return request;
+        };
+    }
+
+    private static ItemShortDto item(int id) {
+        ItemShortDto dto = new ItemShortDto();
+        dto.setId((long) id);
+        dto.setName("Item " + id);
+        dto.setDescription("Benchmark item " + id);
+        dto.setAvailable(true);
+        return dto;
+    }
+
+    private static class BenchmarkClient extends BaseClient {
+        BenchmarkClient(RestTemplate rest) {
+            super(rest);
+        }
+
+        ResponseEntity<Object> getItems() {
+            return get("/items?from={from}&size={size}", 1L, Map.of("from", 0, "size", PAGE_SIZE));
+        }
+
+        ResponseEntity<Object> createItem(ItemShortDto dto) {
+            return post("/items", 1L, dto);
+        }
+
+        ResponseEntity<Object> createBooking(BookItemRequestDto dto) {
+            return post("/bookings", 1L, dto);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.EState;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BookingServiceBenchmark {
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"ALL", "CURRENT", "FUTURE", "WAITING", "REJECTED", "PAST"})
+    private EState state;
+
+    @Param({"false", "true"})
+    private boolean owner;
+
+    private BookingService bookingService;
+    private Long userId;
+
+    @Setup(Level.Trial)
+    public void setUp(ServerState server) {
+        bookingService = server.getBean(BookingService.class);
+        userId = owner ? server.getOwnerId() : server.getBookerId();
+    }
+
+    @Benchmark
+    public List<Booking> findAll() {
+        return bookingService.findAll(userId, state, 0, PAGE_SIZE, owner);
+    }
+}
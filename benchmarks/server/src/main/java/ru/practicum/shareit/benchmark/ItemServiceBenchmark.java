@@ -0,0 +1,64 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Slice;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemSearchHit;
+import ru.practicum.shareit.item.dto.ItemShortDto;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ItemServiceBenchmark {
+    private static final int PAGE_SIZE = 20;
+    private static final String SEARCH_TEXT = "item 99";
+
+    private ItemService itemService;
+
+    @Setup(Level.Trial)
+    public void setUp(ServerState server) {
+        itemService = server.getBean(ItemService.class);
+    }
+
+    @Benchmark
+    public ItemDto getByIdAsOwner(ServerState server) {
+        return itemService.getById(server.getItemId(), server.getOwnerId());
+    }
+
+    @Benchmark
+    public ItemDto getByIdAsBooker(ServerState server) {
+        return itemService.getById(server.getItemId(), server.getBookerId());
+    }
+
+    @Benchmark
+    public List<ItemDto> getAllByUserId(ServerState server) {
+        return itemService.getAllByUserId(server.getOwnerId(), 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<ItemShortDto> searchByText() {
+        return itemService.getItemsByText(SEARCH_TEXT, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Slice<ItemSearchHit> searchByTextAfterCursor() {
+        return itemService.getItemsByTextAfterCursor(SEARCH_TEXT, null, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,151 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingDtoForItem;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.EStatus;
+import ru.practicum.shareit.item.CommentMapper;
+import ru.practicum.shareit.item.ItemMapper;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemShortDto;
+import ru.practicum.shareit.item.model.BookingSnapshot;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.dto.ItemRequestDtoForClient;
+import ru.practicum.shareit.request.dto.SimpleItemRequestDto;
+import ru.practicum.shareit.request.mapper.ItemRequestMapper;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class MapperBenchmark {
+    private static final int COMMENTS = 10;
+    private static final int REQUEST_ITEMS = 10;
+
+    private User user;
+    private Item item;
+    private ItemShortDto itemShortDto;
+    private Booking booking;
+    private BookingDto bookingDto;
+    private BookingDtoForItem bookingDtoForItem;
+    private BookingSnapshot snapshot;
+    private Comment comment;
+    private List<CommentDto> comments;
+    private ItemRequest request;
+    private ItemRequestDto requestDto;
+    private List<ItemShortDto> requestItems;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        user = User.builder().id(1L).name("User").email("user@user.com").build();
+        request = ItemRequest.builder().id(1L).description("Need a drill").created(now).user(user).build();
+        requestDto = ItemRequestDto.builder().description("Need a drill").build();
+        item = Item.builder()
+                .id(1L)
+                .user(user)
+                .name("Drill")
+                .description("Cordless drill")
+                .available(true)
+                .request(request)
+                .build();
+        itemShortDto = ItemMapper.toShortDto(item);
+        booking = Booking.builder()
+                .id(1L)
+                .item(item)
+                .booker(user)
+                .start(now.plusDays(1))
+                .end(now.plusDays(2))
+                .status(EStatus.APPROVED)
+                .build();
+        bookingDto = BookingDto.builder().itemId(item.getId()).start(booking.getStart()).end(booking.getEnd()).build();
+        bookingDtoForItem = BookingMapper.toBookingDtoForItem(booking);
+        snapshot = BookingSnapshot.builder()
+                .bookingId(booking.getId())
+                .bookerId(user.getId())
+                .start(booking.getStart())
+                .end(booking.getEnd())
+                .build();
+        comment = Comment.builder().id(1L).text("Works fine").item(item).user(user).created(now).build();
+        comments = IntStream.range(0, COMMENTS)
+                .mapToObj(i -> CommentMapper.toDto(comment))
+                .collect(Collectors.toList());
+        requestItems = IntStream.range(0, REQUEST_ITEMS)
+                .mapToObj(i -> itemShortDto)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Booking bookingToEntity() {
+        return BookingMapper.toEntity(bookingDto, user, item);
+    }
+
+    @Benchmark
+    public BookingDtoForItem bookingToDtoForItem() {
+        return BookingMapper.toBookingDtoForItem(booking);
+    }
+
+    @Benchmark
+    public ItemShortDto itemToShortDto() {
+        return ItemMapper.toShortDto(item);
+    }
+
+    @Benchmark
+    public Item itemToEntity() {
+        return ItemMapper.toEntity(itemShortDto);
+    }
+
+    @Benchmark
+    public BookingDtoForItem itemSnapshotToDtoForItem() {
+        return ItemMapper.toBookingDtoForItem(snapshot);
+    }
+
+    @Benchmark
+    public ItemDto itemToDto() {
+        return ItemMapper.toDto(item, bookingDtoForItem, bookingDtoForItem, comments);
+    }
+
+    @Benchmark
+    public ItemRequest requestToEntity() {
+        return ItemRequestMapper.toEntity(requestDto, user);
+    }
+
+    @Benchmark
+    public SimpleItemRequestDto requestToSimpleDto() {
+        return ItemRequestMapper.toSimpleDto(request);
+    }
+
+    @Benchmark
+    public ItemRequestDtoForClient requestToDto() {
+        return ItemRequestMapper.toDto(request, requestItems);
+    }
+
+    @Benchmark
+    public CommentDto commentToDto() {
+        return CommentMapper.toDto(comment);
+    }
+}
@@ -0,0 +1,83 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import ru.practicum.shareit.item.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.UserMapper;
+import ru.practicum.shareit.user.model.User;
+
+import java.beans.FeatureDescriptor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class PatchBenchmark {
+    private User user;
+    private User userPatch;
+    private Item item;
+    private Item itemPatch;
+
+    @Setup
+    public void setUp() {
+        user = User.builder().id(1L).name("User").email("user@user.com").build();
+        userPatch = User.builder().name("Updated").build();
+        item = Item.builder()
+                .id(1L)
+                .user(user)
+                .name("Drill")
+                .description("Cordless drill")
+                .available(true)
+                .build();
+        itemPatch = Item.builder().name("Updated").available(false).build();
+    }
+
+    @Benchmark
+    public User userReflective() {
+        BeanUtils.copyProperties(userPatch, user, getNullPropertyNames(userPatch));
+        return user;
+    }
+
+    @Benchmark
+    public User userTyped() {
+        UserMapper.patch(userPatch, user);
+        return user;
+    }
+
+    @Benchmark
+    public Item itemReflective() {
+        BeanUtils.copyProperties(itemPatch, item, getNullPropertyNames(itemPatch));
+        return item;
+    }
+
+    @Benchmark
+    public Item itemTyped() {
+        ItemMapper.patch(itemPatch, item);
+        return item;
+    }
+
+    // The helper the services used before typed patching, kept as the baseline.
+    private static String[] getNullPropertyNames(Object source) {
+        final BeanWrapper wrappedSource = new BeanWrapperImpl(source);
+        return Stream.of(wrappedSource.getPropertyDescriptors())
+                .map(FeatureDescriptor::getName)
+                .filter(propertyName -> wrappedSource.getPropertyValue(propertyName) == null)
+                .toArray(String[]::new);
+    }
+}
@@ -0,0 +1,122 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.EStatus;
+import ru.practicum.shareit.item.ItemBookingSummaryService;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+public class ServerState {
+    public static final String DATASET_SIZE_PROPERTY = "shareit.benchmark.dataset-size";
+
+    private static final int DEFAULT_DATASET_SIZE = 1000;
+
+    private ConfigurableApplicationContext context;
+    private Long ownerId;
+    private Long bookerId;
+    private Long itemId;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("logging.level.root=WARN")
+                .run();
+        load(Integer.getInteger(DATASET_SIZE_PROPERTY, DEFAULT_DATASET_SIZE));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public Long getBookerId() {
+        return bookerId;
+    }
+
+    public Long getItemId() {
+        return itemId;
+    }
+
+    // Every item gets one booking per state the services branch on, and a comment from the booker.
+    private void load(int items) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(getBean(PlatformTransactionManager.class));
+        List<Long> itemIds = transactionTemplate.execute(status -> {
+            UserRepository userRepository = getBean(UserRepository.class);
+            User owner = userRepository.save(User.builder().name("Owner").email("owner@benchmark.ru").build());
+            User booker = userRepository.save(User.builder().name("Booker").email("booker@benchmark.ru").build());
+            ownerId = owner.getId();
+            bookerId = booker.getId();
+
+            List<Item> saved = getBean(ItemRepository.class).saveAll(IntStream.range(0, items)
+                    .mapToObj(i -> Item.builder()
+                            .user(owner)
+                            .name("Item " + i)
+                            .description("Benchmark item " + i)
+                            .available(true)
+                            .build())
+                    .collect(Collectors.toList()));
+
+            LocalDateTime now = LocalDateTime.now();
+            List<Booking> bookings = new ArrayList<>();
+            List<Comment> comments = new ArrayList<>();
+            for (Item item : saved) {
+                bookings.add(booking(item, booker, now.minusDays(3), now.minusDays(2), EStatus.APPROVED));
+                bookings.add(booking(item, booker, now.minusHours(1), now.plusHours(1), EStatus.APPROVED));
+                bookings.add(booking(item, booker, now.plusDays(1), now.plusDays(2), EStatus.APPROVED));
+                bookings.add(booking(item, booker, now.plusDays(3), now.plusDays(4), EStatus.WAITING));
+                bookings.add(booking(item, booker, now.plusDays(5), now.plusDays(6), EStatus.REJECTED));
+                comments.add(Comment.builder().item(item).user(booker).text("Works fine").created(now).build());
+            }
+            getBean(BookingRepository.class).saveAll(bookings);
+            getBean(CommentRepository.class).saveAll(comments);
+            return saved.stream().map(Item::getId).collect(Collectors.toList());
+        });
+
+        ItemBookingSummaryService summaryService = getBean(ItemBookingSummaryService.class);
+        itemIds.forEach(summaryService::refresh);
+        itemId = itemIds.get(itemIds.size() / 2);
+    }
+
+    private static Booking booking(Item item, User booker, LocalDateTime start, LocalDateTime end, EStatus status) {
+        return Booking.builder()
+                .item(item)
+                .booker(booker)
+                .start(start)
+                .end(end)
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,33 @@
+#!/usr/bin/env bash
+# Compares gateway throughput and latency percentiles across execution modes.
+# Needs a running server on :9090 with at least one user and item, and wrk on PATH.
+# Virtual threads: build with -Pvirtual-threads on JDK 21 and compare
+#   ./compare-modes.sh benchmark,platform-threads benchmark
+#
+#   ./compare-modes.sh [profile...]      e.g. ./compare-modes.sh default reactive
+set -euo pipefail
+
+JAR=${JAR:-$(ls "$(dirname "$0")"/../target/shareit-gateway-*.jar | head -n 1)}
+URL=${URL:-http://localhost:8080/items/1}
+USER_ID=${USER_ID:-1}
+THREADS=${THREADS:-8}
+CONNECTIONS=${CONNECTIONS:-1000}
+DURATION=${DURATION:-60s}
+PROFILES=${*:-default reactive}
+
+for profile in $PROFILES; do
+    java -jar "$JAR" --spring.profiles.active="$profile" > "gateway-$profile.log" 2>&1 &
+    pid=$!
+    trap 'kill $pid 2>/dev/null || true' EXIT
+
+    until curl -sf http://localhost:8080/actuator/health > /dev/null; do
+        sleep 1
+    done
+
+    echo "=== $profile ==="
+    wrk -t"$THREADS" -c"$CONNECTIONS" -d"$DURATION" --latency -H "X-Sharer-User-Id: $USER_ID" "$URL" \
+        | grep -E 'Requests/sec|Latency|50%|99%|Socket errors|Non-2xx'
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+done
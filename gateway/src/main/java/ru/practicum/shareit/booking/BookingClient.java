@@ -2,59 +2,88 @@ package ru.practicum.shareit.booking;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.booking.dto.BookItemRequestDto;
 import ru.practicum.shareit.booking.dto.BookingState;
+import ru.practicum.shareit.bulk.ImportMediaTypes;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.GatewayResponseCache;
 
+import java.io.InputStream;
 import java.util.Map;
 
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                         ClientHttpRequestFactory requestFactory, GatewayResponseCache cache) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+                        .requestFactory(() -> requestFactory)
+                        .build(),
+                cache,
+                API_PREFIX
         );
     }
 
-    public ResponseEntity<Object> getBookings(long userId, BookingState state, Integer from, Integer size) {
-        Map<String, Object> parameters = Map.of(
-                "state", state.name(),
-                "from", from,
-                "size", size
-        );
-        return get("?state={state}&from={from}&size={size}", userId, parameters);
+    public ResponseEntity<Object> getBookings(long userId, BookingState state, Integer from, Integer size, String cursor) {
+        return getBookings("", userId, state, from, size, cursor);
+    }
+
+    public ResponseEntity<Object> getOwnerBookings(long userId, BookingState state, Integer from, Integer size, String cursor) {
+        return getBookings("/owner", userId, state, from, size, cursor);
     }
 
-    public ResponseEntity<Object> getOwnerBookings(long userId, BookingState state, Integer from, Integer size) {
+    private ResponseEntity<Object> getBookings(String path, long userId, BookingState state, Integer from, Integer size,
+                                               String cursor) {
+        if (cursor != null) {
+            Map<String, Object> parameters = Map.of(
+                    "state", state.name(),
+                    "size", size,
+                    "cursor", cursor
+            );
+            return get(path + "?state={state}&size={size}&cursor={cursor}", userId, parameters);
+        }
         Map<String, Object> parameters = Map.of(
                 "state", state.name(),
                 "from", from,
                 "size", size
         );
-        return get("/owner?state={state}&from={from}&size={size}", userId, parameters);
+        return get(path + "?state={state}&from={from}&size={size}", userId, parameters);
     }
 
+    public ResponseEntity<Object> countBookings(long userId, BookingState state, boolean owner) {
+        return get((owner ? "/owner" : "") + "/count?state={state}", userId, Map.of("state", state.name()));
+    }
 
     public ResponseEntity<Object> bookItem(long userId, BookItemRequestDto requestDto) {
         return post("", userId, requestDto);
     }
 
-    public ResponseEntity<Object> getBooking(long userId, Long bookingId) {
-        return get("/" + bookingId, userId);
+    public ResponseEntity<Object> getBooking(long userId, Long bookingId, String ifNoneMatch) {
+        return conditionalGet("/" + bookingId, userId, ifNoneMatch);
     }
 
     public ResponseEntity<Object> approveBooking(Long id, Boolean approved, Long userId) {
         return patch(String.format("/%s?approved=%s", id, approved), userId, approved);
     }
+
+    public ResponseEntity<StreamingResponseBody> exportBookings(long userId, boolean owner) {
+        return stream(owner ? "/owner/export" : "/export", userId, MediaType.valueOf(ImportMediaTypes.NDJSON_VALUE));
+    }
+
+    public ResponseEntity<Object> importBookings(Long userId, String importId, String contentType, InputStream body) {
+        return upload("/import", userId, contentType, importId, body);
+    }
 }
@@ -1,19 +1,26 @@
 package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.annotation.LogExecution;
 import ru.practicum.shareit.booking.dto.BookItemRequestDto;
 import ru.practicum.shareit.booking.dto.BookingState;
+import ru.practicum.shareit.bulk.ImportMediaTypes;
+import ru.practicum.shareit.client.BaseClient;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import java.io.InputStream;
 
 @Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping(path = "/bookings")
 @RequiredArgsConstructor
 @LogExecution
@@ -27,10 +34,19 @@ public class BookingController {
         return bookingClient.bookItem(userId, requestDto);
     }
 
+    @PostMapping(path = "/import", consumes = {ImportMediaTypes.NDJSON_VALUE, ImportMediaTypes.CSV_VALUE})
+    public ResponseEntity<Object> importBookings(@Positive @RequestHeader(name = "X-Sharer-User-Id") Long userId,
+                                                 @RequestHeader(name = BaseClient.IMPORT_ID_HEADER, required = false) String importId,
+                                                 @RequestHeader(name = HttpHeaders.CONTENT_TYPE) String contentType,
+                                                 InputStream body) {
+        return bookingClient.importBookings(userId, importId, contentType, body);
+    }
+
     @GetMapping("/{bookingId}")
     public ResponseEntity<Object> getBooking(@Positive @RequestHeader("X-Sharer-User-Id") long userId,
+                                             @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
                                              @PathVariable Long bookingId) {
-        return bookingClient.getBooking(userId, bookingId);
+        return bookingClient.getBooking(userId, bookingId, ifNoneMatch);
     }
 
     @PatchMapping("/{bookingId}")
@@ -44,15 +60,39 @@ public class BookingController {
     public ResponseEntity<Object> getBookings(@Positive @RequestHeader("X-Sharer-User-Id") long userId,
                                               @RequestParam(name = "state", defaultValue = "ALL") BookingState stateParam,
                                               @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
-                                              @Positive @RequestParam(name = "size", defaultValue = "10") Integer size) {
-        return bookingClient.getBookings(userId, stateParam, from, size);
+                                              @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+                                              @RequestParam(name = "cursor", required = false) String cursor) {
+        return bookingClient.getBookings(userId, stateParam, from, size, cursor);
     }
 
     @GetMapping("/owner")
     public ResponseEntity<Object> getOwnerBookings(@Positive @RequestHeader("X-Sharer-User-Id") long userId,
                                                    @RequestParam(name = "state", defaultValue = "ALL") BookingState stateParam,
                                                    @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
-                                                   @Positive @RequestParam(name = "size", defaultValue = "10") Integer size) {
-        return bookingClient.getOwnerBookings(userId, stateParam, from, size);
+                                                   @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+                                                   @RequestParam(name = "cursor", required = false) String cursor) {
+        return bookingClient.getOwnerBookings(userId, stateParam, from, size, cursor);
+    }
+
+    @GetMapping("/count")
+    public ResponseEntity<Object> countBookings(@Positive @RequestHeader("X-Sharer-User-Id") long userId,
+                                                @RequestParam(name = "state", defaultValue = "ALL") BookingState stateParam) {
+        return bookingClient.countBookings(userId, stateParam, false);
+    }
+
+    @GetMapping("/owner/count")
+    public ResponseEntity<Object> countOwnerBookings(@Positive @RequestHeader("X-Sharer-User-Id") long userId,
+                                                     @RequestParam(name = "state", defaultValue = "ALL") BookingState stateParam) {
+        return bookingClient.countBookings(userId, stateParam, true);
+    }
+
+    @GetMapping(path = "/export", produces = ImportMediaTypes.NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportBookings(@Positive @RequestHeader("X-Sharer-User-Id") long userId) {
+        return bookingClient.exportBookings(userId, false);
+    }
+
+    @GetMapping(path = "/owner/export", produces = ImportMediaTypes.NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportOwnerBookings(@Positive @RequestHeader("X-Sharer-User-Id") long userId) {
+        return bookingClient.exportBookings(userId, true);
     }
 }
@@ -0,0 +1,80 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.dto.BookItemRequestDto;
+import ru.practicum.shareit.booking.dto.BookingState;
+import ru.practicum.shareit.bulk.ImportMediaTypes;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+
+import java.util.Map;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveBookingClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/bookings";
+
+    public ReactiveBookingClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
+        super(builder.baseUrl(serverUrl + API_PREFIX).build());
+    }
+
+    public Mono<ResponseEntity<Object>> getBookings(long userId, BookingState state, Integer from, Integer size,
+                                                    String cursor) {
+        return getBookings("", userId, state, from, size, cursor);
+    }
+
+    public Mono<ResponseEntity<Object>> getOwnerBookings(long userId, BookingState state, Integer from, Integer size,
+                                                         String cursor) {
+        return getBookings("/owner", userId, state, from, size, cursor);
+    }
+
+    private Mono<ResponseEntity<Object>> getBookings(String path, long userId, BookingState state, Integer from,
+                                                     Integer size, String cursor) {
+        if (cursor != null) {
+            Map<String, Object> parameters = Map.of(
+                    "state", state.name(),
+                    "size", size,
+                    "cursor", cursor
+            );
+            return get(path + "?state={state}&size={size}&cursor={cursor}", userId, parameters);
+        }
+        Map<String, Object> parameters = Map.of(
+                "state", state.name(),
+                "from", from,
+                "size", size
+        );
+        return get(path + "?state={state}&from={from}&size={size}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> countBookings(long userId, BookingState state, boolean owner) {
+        return get((owner ? "/owner" : "") + "/count?state={state}", userId, Map.of("state", state.name()));
+    }
+
+    public Mono<ResponseEntity<Object>> bookItem(long userId, BookItemRequestDto requestDto) {
+        return post("", userId, requestDto);
+    }
+
+    public Mono<ResponseEntity<Object>> getBooking(long userId, Long bookingId, String ifNoneMatch) {
+        return conditionalGet("/" + bookingId, userId, ifNoneMatch);
+    }
+
+    public Mono<ResponseEntity<Object>> approveBooking(Long id, Boolean approved, Long userId) {
+        return patch(String.format("/%s?approved=%s", id, approved), userId, approved);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> exportBookings(long userId, boolean owner) {
+        return stream(owner ? "/owner/export" : "/export", userId, MediaType.valueOf(ImportMediaTypes.NDJSON_VALUE));
+    }
+
+    public Mono<ResponseEntity<Object>> importBookings(Long userId, String importId, String contentType,
+                                                       Flux<DataBuffer> body) {
+        return upload("/import", userId, contentType, importId, body);
+    }
+}
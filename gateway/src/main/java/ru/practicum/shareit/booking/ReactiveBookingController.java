@@ -0,0 +1,99 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.annotation.LogExecution;
+import ru.practicum.shareit.booking.dto.BookItemRequestDto;
+import ru.practicum.shareit.booking.dto.BookingState;
+import ru.practicum.shareit.bulk.ImportMediaTypes;
+import ru.practicum.shareit.client.BaseClient;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+
+@Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping(path = "/bookings")
+@RequiredArgsConstructor
+@LogExecution
+@Validated
+public class ReactiveBookingController {
+    private final ReactiveBookingClient bookingClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<Object>> bookItem(@Positive @RequestHeader("X-Sharer-User-Id") long userId,
+                                                 @RequestBody @Valid BookItemRequestDto requestDto) {
+        return bookingClient.bookItem(userId, requestDto);
+    }
+
+    @PostMapping(path = "/import", consumes = {ImportMediaTypes.NDJSON_VALUE, ImportMediaTypes.CSV_VALUE})
+    public Mono<ResponseEntity<Object>> importBookings(@Positive @RequestHeader(name = "X-Sharer-User-Id") Long userId,
+                                                       @RequestHeader(name = BaseClient.IMPORT_ID_HEADER, required = false) String importId,
+                                                       @RequestHeader(name = HttpHeaders.CONTENT_TYPE) String contentType,
+                                                       @RequestBody Flux<DataBuffer> body) {
+        return bookingClient.importBookings(userId, importId, contentType, body);
+    }
+
+    @GetMapping("/{bookingId}")
+    public Mono<ResponseEntity<Object>> getBooking(@Positive @RequestHeader("X-Sharer-User-Id") long userId,
+                                                   @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                   @PathVariable Long bookingId) {
+        return bookingClient.getBooking(userId, bookingId, ifNoneMatch);
+    }
+
+    @PatchMapping("/{bookingId}")
+    Mono<ResponseEntity<Object>> approvedBooking(@PathVariable Long bookingId,
+                                                 @RequestParam Boolean approved,
+                                                 @Positive @RequestHeader(name = "X-Sharer-User-Id") Long userid) {
+        return bookingClient.approveBooking(bookingId, approved, userid);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Object>> getBookings(@Positive @RequestHeader("X-Sharer-User-Id") long userId,
+                                                    @RequestParam(name = "state", defaultValue = "ALL") BookingState stateParam,
+                                                    @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
+                                                    @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+                                                    @RequestParam(name = "cursor", required = false) String cursor) {
+        return bookingClient.getBookings(userId, stateParam, from, size, cursor);
+    }
+
+    @GetMapping("/owner")
+    public Mono<ResponseEntity<Object>> getOwnerBookings(@Positive @RequestHeader("X-Sharer-User-Id") long userId,
+                                                         @RequestParam(name = "state", defaultValue = "ALL") BookingState stateParam,
+                                                         @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
+                                                         @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+                                                         @RequestParam(name = "cursor", required = false) String cursor) {
+        return bookingClient.getOwnerBookings(userId, stateParam, from, size, cursor);
+    }
+
+    @GetMapping("/count")
+    public Mono<ResponseEntity<Object>> countBookings(@Positive @RequestHeader("X-Sharer-User-Id") long userId,
+                                                      @RequestParam(name = "state", defaultValue = "ALL") BookingState stateParam) {
+        return bookingClient.countBookings(userId, stateParam, false);
+    }
+
+    @GetMapping("/owner/count")
+    public Mono<ResponseEntity<Object>> countOwnerBookings(@Positive @RequestHeader("X-Sharer-User-Id") long userId,
+                                                           @RequestParam(name = "state", defaultValue = "ALL") BookingState stateParam) {
+        return bookingClient.countBookings(userId, stateParam, true);
+    }
+
+    @GetMapping(path = "/export", produces = ImportMediaTypes.NDJSON_VALUE)
+    public Mono<ResponseEntity<Flux<DataBuffer>>> exportBookings(@Positive @RequestHeader("X-Sharer-User-Id") long userId) {
+        return bookingClient.exportBookings(userId, false);
+    }
+
+    @GetMapping(path = "/owner/export", produces = ImportMediaTypes.NDJSON_VALUE)
+    public Mono<ResponseEntity<Flux<DataBuffer>>> exportOwnerBookings(@Positive @RequestHeader("X-Sharer-User-Id") long userId) {
+        return bookingClient.exportBookings(userId, true);
+    }
+}
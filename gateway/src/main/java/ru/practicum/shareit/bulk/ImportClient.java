@@ -0,0 +1,34 @@
+package ru.practicum.shareit.bulk;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import ru.practicum.shareit.client.BaseClient;
+
+import java.util.Map;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ImportClient extends BaseClient {
+    private static final String API_PREFIX = "/imports";
+
+    @Autowired
+    public ImportClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                        ClientHttpRequestFactory requestFactory) {
+        super(
+                builder
+                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
+                        .requestFactory(() -> requestFactory)
+                        .build()
+        );
+    }
+
+    public ResponseEntity<Object> getReport(Long userId, String importId) {
+        return get("/{importId}", userId, Map.of("importId", importId));
+    }
+}
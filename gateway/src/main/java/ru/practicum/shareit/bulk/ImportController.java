@@ -0,0 +1,30 @@
+package ru.practicum.shareit.bulk;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import ru.practicum.shareit.annotation.LogExecution;
+
+import javax.validation.constraints.Positive;
+
+@Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@LogExecution
+@RequestMapping(path = "/imports")
+@RequiredArgsConstructor
+@Validated
+public class ImportController {
+    private final ImportClient importClient;
+
+    @GetMapping("/{importId}")
+    public ResponseEntity<Object> getReport(@Positive @RequestHeader(name = "X-Sharer-User-Id") Long userId,
+                                            @PathVariable String importId) {
+        return importClient.getReport(userId, importId);
+    }
+}
@@ -1,22 +1,47 @@
 package ru.practicum.shareit.client;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.lang.Nullable;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 public class BaseClient {
+    public static final String IMPORT_ID_HEADER = "X-Import-Id";
+
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(
+            "connection", "keep-alive", "transfer-encoding", "content-length", "upgrade",
+            "proxy-authenticate", "proxy-authorization", "te", "trailer");
+
     protected final RestTemplate rest;
+    @Nullable
+    private final GatewayResponseCache cache;
+    @Nullable
+    private final String resource;
 
     public BaseClient(RestTemplate rest) {
+        this(rest, null, null);
+    }
+
+    public BaseClient(RestTemplate rest, @Nullable GatewayResponseCache cache, @Nullable String resource) {
         this.rest = rest;
+        this.cache = cache;
+        this.resource = resource;
     }
 
     protected ResponseEntity<Object> get(String path) {
@@ -31,6 +56,25 @@ public class BaseClient {
         return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
     }
 
+    protected ResponseEntity<Object> conditionalGet(String path, long userId, @Nullable String ifNoneMatch) {
+        HttpHeaders headers = defaultHeaders(userId);
+        if (ifNoneMatch != null) {
+            headers.set(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return exchange(HttpMethod.GET, path, headers, null, null);
+    }
+
+    protected ResponseEntity<Object> cachedGet(String route, String path, Long userId,
+                                               @Nullable Map<String, Object> parameters) {
+        if (cache == null) {
+            return get(path, userId, parameters);
+        }
+        String uri = rest.getUriTemplateHandler()
+                .expand(path, parameters != null ? parameters : Map.of())
+                .toString();
+        return cache.get(route, resource, uri, userId, () -> get(path, userId, parameters));
+    }
+
     protected <T> ResponseEntity<Object> post(String path, T body) {
         return post(path, null, null, body);
     }
@@ -79,22 +123,88 @@ public class BaseClient {
         return makeAndSendRequest(HttpMethod.DELETE, path, userId, parameters, null);
     }
 
+    protected ResponseEntity<Object> upload(String path, long userId, String contentType,
+                                            @Nullable String importId, InputStream body) {
+        HttpHeaders headers = defaultHeaders(userId);
+        headers.set(HttpHeaders.CONTENT_TYPE, contentType);
+        if (importId != null) {
+            headers.set(IMPORT_ID_HEADER, importId);
+        }
+        try {
+            return rest.execute(path, HttpMethod.POST,
+                    request -> {
+                        request.getHeaders().addAll(headers);
+                        StreamUtils.copy(body, request.getBody());
+                    },
+                    response -> prepareGatewayResponse(ResponseEntity.status(response.getRawStatusCode())
+                            .headers(response.getHeaders())
+                            .body(StreamUtils.copyToByteArray(response.getBody()))));
+        } catch (HttpStatusCodeException e) {
+            return errorResponse(e);
+        } finally {
+            if (cache != null) {
+                cache.invalidate(resource);
+            }
+        }
+    }
+
+    protected ResponseEntity<StreamingResponseBody> stream(String path, long userId, MediaType accept) {
+        URI uri = rest.getUriTemplateHandler().expand(path);
+        ClientHttpResponse response = null;
+        try {
+            ClientHttpRequest request = rest.getRequestFactory().createRequest(uri, HttpMethod.GET);
+            request.getHeaders().setAccept(List.of(accept, MediaType.APPLICATION_JSON));
+            request.getHeaders().set("X-Sharer-User-Id", String.valueOf(userId));
+            response = request.execute();
+
+            ClientHttpResponse serverResponse = response;
+            return ResponseEntity.status(serverResponse.getRawStatusCode())
+                    .headers(passthroughHeaders(serverResponse.getHeaders()))
+                    .body(out -> {
+                        try (serverResponse) {
+                            StreamUtils.copy(serverResponse.getBody(), out);
+                        }
+                    });
+        } catch (IOException e) {
+            if (response != null) {
+                response.close();
+            }
+            throw new ResourceAccessException("I/O error on GET request for \"" + uri + "\": " + e.getMessage(), e);
+        }
+    }
+
     private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
-        HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
+        try {
+            return exchange(method, path, defaultHeaders(userId), parameters, body);
+        } finally {
+            if (cache != null && method != HttpMethod.GET) {
+                cache.invalidate(resource);
+            }
+        }
+    }
 
-        ResponseEntity<Object> shareitServerResponse;
+    private <T> ResponseEntity<Object> exchange(HttpMethod method, String path, HttpHeaders headers, @Nullable Map<String, Object> parameters, @Nullable T body) {
+        HttpEntity<T> requestEntity = new HttpEntity<>(body, headers);
+
+        ResponseEntity<byte[]> shareitServerResponse;
         try {
             if (parameters != null && !parameters.isEmpty()) {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class, parameters);
+                shareitServerResponse = rest.exchange(path, method, requestEntity, byte[].class, parameters);
             } else {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
+                shareitServerResponse = rest.exchange(path, method, requestEntity, byte[].class);
             }
         } catch (HttpStatusCodeException e) {
-            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+            return errorResponse(e);
         }
         return prepareGatewayResponse(shareitServerResponse);
     }
 
+    private static ResponseEntity<Object> errorResponse(HttpStatusCodeException e) {
+        return ResponseEntity.status(e.getStatusCode())
+                .headers(passthroughHeaders(e.getResponseHeaders()))
+                .body(e.getResponseBodyAsByteArray());
+    }
+
     private HttpHeaders defaultHeaders(Long userId) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -105,12 +215,21 @@ public class BaseClient {
         return headers;
     }
 
-    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<Object> response) {
-        if (response.getStatusCode().is2xxSuccessful()) {
-            return response;
+    static HttpHeaders passthroughHeaders(@Nullable HttpHeaders serverHeaders) {
+        HttpHeaders headers = new HttpHeaders();
+        if (serverHeaders != null) {
+            serverHeaders.forEach((name, values) -> {
+                if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase())) {
+                    headers.addAll(name, values);
+                }
+            });
         }
+        return headers;
+    }
 
-        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode());
+    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<byte[]> response) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode())
+                .headers(passthroughHeaders(response.getHeaders()));
 
         if (response.hasBody()) {
             return responseBuilder.body(response.getBody());
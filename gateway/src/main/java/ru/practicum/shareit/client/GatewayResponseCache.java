@@ -0,0 +1,146 @@
+package ru.practicum.shareit.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Value;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class GatewayResponseCache {
+    private static final Map<String, Set<String>> AFFECTED_RESOURCES = Map.of(
+            "/items", Set.of("/items", "/requests"),
+            "/bookings", Set.of("/bookings", "/items"),
+            "/requests", Set.of("/requests"),
+            "/users", Set.of("/users", "/items", "/bookings", "/requests"));
+
+    private final ResponseCacheProperties properties;
+    private final Cache<Key, Entry> cache;
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final Map<String, Set<Key>> keysByResource = new ConcurrentHashMap<>();
+
+    @Autowired
+    public GatewayResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Ticker.systemTicker());
+    }
+
+    GatewayResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry, Ticker ticker) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new EntryExpiry())
+                .evictionListener((Key key, Entry entry, RemovalCause cause) -> unindex(key))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gatewayResponses");
+    }
+
+    public ResponseEntity<Object> get(String route, String resource, String uri, Long userId,
+                                      Supplier<ResponseEntity<Object>> loader) {
+        Duration ttl = properties.getTtl().get(route);
+        if (ttl == null || ttl.isZero()) {
+            return loader.get();
+        }
+
+        // Entries remember the generation they were loaded in. A mutation that finishes while a response
+        // is loading bumps the generation, so that response is never served from the cache even if it
+        // still gets stored.
+        Key key = new Key(resource, uri, userId);
+        long generation = generation(resource).get();
+        Entry cached = cache.getIfPresent(key);
+        if (cached != null && cached.getGeneration() == generation) {
+            return cached.getResponse();
+        }
+
+        ResponseEntity<Object> response = loader.get();
+        if (response.getStatusCode().is2xxSuccessful()) {
+            cache.asMap().compute(key, (k, current) -> {
+                if (generation(resource).get() != generation
+                        || current != null && current.getGeneration() > generation) {
+                    return current;
+                }
+                index(k);
+                return new Entry(response, ttl, generation);
+            });
+        }
+        return response;
+    }
+
+    public void invalidate(String resource) {
+        Set<String> affected = AFFECTED_RESOURCES.getOrDefault(resource, Set.of(resource));
+        for (String name : affected) {
+            generation(name).incrementAndGet();
+            Set<Key> keys = keysByResource.remove(name);
+            if (keys != null) {
+                cache.invalidateAll(keys);
+            }
+        }
+    }
+
+    private AtomicLong generation(String resource) {
+        return generations.computeIfAbsent(resource, name -> new AtomicLong());
+    }
+
+    private void index(Key key) {
+        keysByResource.compute(key.getResource(), (name, keys) -> {
+            Set<Key> indexed = keys != null ? keys : new HashSet<>();
+            indexed.add(key);
+            return indexed;
+        });
+    }
+
+    private void unindex(Key key) {
+        keysByResource.computeIfPresent(key.getResource(), (name, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    @Value
+    private static class Key {
+        String resource;
+        String uri;
+        Long userId;
+    }
+
+    @Value
+    private static class Entry {
+        ResponseEntity<Object> response;
+        Duration ttl;
+        long generation;
+    }
+
+    private static class EntryExpiry implements Expiry<Key, Entry> {
+        @Override
+        public long expireAfterCreate(Key key, Entry entry, long currentTime) {
+            return entry.getTtl().toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Key key, Entry entry, long currentTime, long currentDuration) {
+            return entry.getTtl().toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(Key key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package ru.practicum.shareit.client;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@ConfigurationProperties("shareit-server.http-client")
+public class HttpClientProperties {
+    int maxTotal = 200;
+    int maxPerRoute = 200;
+    Duration connectTimeout = Duration.ofSeconds(2);
+    Duration readTimeout = Duration.ofSeconds(10);
+    Duration connectionRequestTimeout = Duration.ofSeconds(1);
+    Duration idleTimeout = Duration.ofSeconds(30);
+    Duration keepAlive = Duration.ofSeconds(30);
+    Duration validateAfterInactivity = Duration.ofSeconds(2);
+}
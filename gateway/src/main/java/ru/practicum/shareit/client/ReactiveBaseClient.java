@@ -0,0 +1,142 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+public class ReactiveBaseClient {
+    protected final WebClient webClient;
+
+    public ReactiveBaseClient(WebClient webClient) {
+        this.webClient = webClient;
+    }
+
+    protected Mono<ResponseEntity<Object>> get(String path) {
+        return get(path, null, null);
+    }
+
+    protected Mono<ResponseEntity<Object>> get(String path, long userId) {
+        return get(path, userId, null);
+    }
+
+    protected Mono<ResponseEntity<Object>> get(String path, Long userId, @Nullable Map<String, Object> parameters) {
+        return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
+    }
+
+    protected Mono<ResponseEntity<Object>> conditionalGet(String path, long userId, @Nullable String ifNoneMatch) {
+        HttpHeaders headers = defaultHeaders(userId);
+        if (ifNoneMatch != null) {
+            headers.set(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return exchange(HttpMethod.GET, path, headers, null, null);
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> post(String path, T body) {
+        return post(path, null, null, body);
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> post(String path, long userId, T body) {
+        return post(path, userId, null, body);
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> post(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
+        return makeAndSendRequest(HttpMethod.POST, path, userId, parameters, body);
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, T body) {
+        return patch(path, null, null, body);
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, long userId, T body) {
+        return patch(path, userId, null, body);
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
+        return makeAndSendRequest(HttpMethod.PATCH, path, userId, parameters, body);
+    }
+
+    protected Mono<ResponseEntity<Object>> delete(String path) {
+        return delete(path, null, null);
+    }
+
+    protected Mono<ResponseEntity<Object>> delete(String path, Long userId, @Nullable Map<String, Object> parameters) {
+        return makeAndSendRequest(HttpMethod.DELETE, path, userId, parameters, null);
+    }
+
+    protected Mono<ResponseEntity<Object>> upload(String path, long userId, String contentType,
+                                                  @Nullable String importId, Flux<DataBuffer> body) {
+        HttpHeaders requestHeaders = defaultHeaders(userId);
+        requestHeaders.set(HttpHeaders.CONTENT_TYPE, contentType);
+        if (importId != null) {
+            requestHeaders.set(BaseClient.IMPORT_ID_HEADER, importId);
+        }
+        return webClient.post()
+                .uri(path)
+                .headers(headers -> headers.addAll(requestHeaders))
+                .body(BodyInserters.fromDataBuffers(body))
+                .exchangeToMono(ReactiveBaseClient::prepareGatewayResponse);
+    }
+
+    protected Mono<ResponseEntity<Flux<DataBuffer>>> stream(String path, long userId, MediaType accept) {
+        return webClient.get()
+                .uri(path)
+                .headers(headers -> {
+                    headers.setAccept(List.of(accept, MediaType.APPLICATION_JSON));
+                    headers.set("X-Sharer-User-Id", String.valueOf(userId));
+                })
+                .retrieve()
+                .onStatus(HttpStatus::isError, response -> Mono.empty())
+                .toEntityFlux(DataBuffer.class)
+                .map(response -> ResponseEntity.status(response.getStatusCodeValue())
+                        .headers(BaseClient.passthroughHeaders(response.getHeaders()))
+                        .body(response.getBody()));
+    }
+
+    private <T> Mono<ResponseEntity<Object>> makeAndSendRequest(HttpMethod method, String path, Long userId,
+                                                                @Nullable Map<String, Object> parameters,
+                                                                @Nullable T body) {
+        return exchange(method, path, defaultHeaders(userId), parameters, body);
+    }
+
+    private <T> Mono<ResponseEntity<Object>> exchange(HttpMethod method, String path, HttpHeaders requestHeaders,
+                                                      @Nullable Map<String, Object> parameters,
+                                                      @Nullable T body) {
+        WebClient.RequestBodySpec request = webClient.method(method)
+                .uri(path, parameters != null ? parameters : Map.of())
+                .headers(headers -> headers.addAll(requestHeaders));
+
+        WebClient.RequestHeadersSpec<?> spec = body != null ? request.bodyValue(body) : request;
+        return spec.exchangeToMono(ReactiveBaseClient::prepareGatewayResponse);
+    }
+
+    private HttpHeaders defaultHeaders(Long userId) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        if (userId != null) {
+            headers.set("X-Sharer-User-Id", String.valueOf(userId));
+        }
+        return headers;
+    }
+
+    private static Mono<ResponseEntity<Object>> prepareGatewayResponse(ClientResponse response) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.rawStatusCode())
+                .headers(BaseClient.passthroughHeaders(response.headers().asHttpHeaders()));
+
+        return response.bodyToMono(byte[].class)
+                .map(body -> responseBuilder.body((Object) body))
+                .defaultIfEmpty(responseBuilder.build());
+    }
+}
@@ -3,11 +3,13 @@ package ru.practicum.shareit.handler;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.TypeMismatchException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.ServerWebInputException;
 
 @Slf4j
 @ControllerAdvice
@@ -18,6 +20,15 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(new ErrorMessage(String.format("Unknown state: %s", exception.getValue())), HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorMessage> serverWebInputExceptionHandler(ServerWebInputException exception) {
+        if (exception.getCause() instanceof TypeMismatchException) {
+            TypeMismatchException cause = (TypeMismatchException) exception.getCause();
+            return new ResponseEntity<>(new ErrorMessage(String.format("Unknown state: %s", cause.getValue())), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+        return new ResponseEntity<>(new ErrorMessage(exception.getReason()), HttpStatus.BAD_REQUEST);
+    }
+
     @Value
     public static class ErrorMessage {
         @JsonProperty("error")
@@ -2,29 +2,36 @@ package ru.practicum.shareit.item;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.GatewayResponseCache;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemShortDto;
 
+import java.io.InputStream;
 import java.util.Map;
 
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ItemClient extends BaseClient {
 
     private static final String API_PREFIX = "/items";
 
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                      ClientHttpRequestFactory requestFactory, GatewayResponseCache cache) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+                        .requestFactory(() -> requestFactory)
+                        .build(),
+                cache,
+                API_PREFIX
         );
     }
 
@@ -36,17 +43,28 @@ public class ItemClient extends BaseClient {
         return post(String.format("/%s/comment", itemId), userId, dto);
     }
 
-    public ResponseEntity<Object> getById(Long userId, Long itemId) {
-        return get("/" + itemId, userId);
+    public ResponseEntity<Object> getById(Long userId, Long itemId, String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            return conditionalGet("/" + itemId, userId, ifNoneMatch);
+        }
+        return cachedGet("item", "/" + itemId, userId, null);
     }
 
-    public ResponseEntity<Object> getByText(String text, Long userId, Integer from, Integer size) {
+    public ResponseEntity<Object> getByText(String text, Long userId, Integer from, Integer size, String cursor) {
+        if (cursor != null) {
+            Map<String, Object> parameters = Map.of(
+                    "text", text,
+                    "size", size,
+                    "cursor", cursor
+            );
+            return cachedGet("item-search", "/search?text={text}&size={size}&cursor={cursor}", userId, parameters);
+        }
         Map<String, Object> parameters = Map.of(
                 "text", text,
                 "from", from,
                 "size", size
         );
-        return get("/search?text={text}&from={from}&size={size}", userId, parameters);
+        return cachedGet("item-search", "/search?text={text}&from={from}&size={size}", userId, parameters);
     }
 
     public ResponseEntity<Object> getAllByUserId(Long userId, Integer from, Integer size) {
@@ -57,7 +75,19 @@ public class ItemClient extends BaseClient {
         return get("?from={from}&size={size}", userId, parameters);
     }
 
+    public ResponseEntity<Object> countByText(String text, Long userId) {
+        return get("/search/count?text={text}", userId, Map.of("text", text));
+    }
+
+    public ResponseEntity<Object> countByUserId(Long userId) {
+        return get("/count", userId);
+    }
+
     public ResponseEntity<Object> update(Long itemId, Long userId, Object object) {
         return patch("/" + itemId, userId, object);
     }
+
+    public ResponseEntity<Object> importItems(Long userId, String importId, String contentType, InputStream body) {
+        return upload("/import", userId, contentType, importId, body);
+    }
 }
@@ -1,19 +1,26 @@
 package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.annotation.LogExecution;
+import ru.practicum.shareit.bulk.ImportMediaTypes;
+import ru.practicum.shareit.client.BaseClient;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemShortDto;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Map;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping(path = "/items")
 @RequiredArgsConstructor
 @LogExecution
@@ -29,6 +36,14 @@ public class ItemController {
         return itemClient.create(dto, userId);
     }
 
+    @PostMapping(path = "/import", consumes = {ImportMediaTypes.NDJSON_VALUE, ImportMediaTypes.CSV_VALUE})
+    public ResponseEntity<Object> importItems(@Positive @RequestHeader(name = "X-Sharer-User-Id") Long userId,
+                                              @RequestHeader(name = BaseClient.IMPORT_ID_HEADER, required = false) String importId,
+                                              @RequestHeader(name = HttpHeaders.CONTENT_TYPE) String contentType,
+                                              InputStream body) {
+        return itemClient.importItems(userId, importId, contentType, body);
+    }
+
     @PostMapping("/{itemId}/comment")
     public ResponseEntity<Object> createComment(@RequestHeader(name = "X-Sharer-User-Id") Long userId,
                                                 @Valid
@@ -41,9 +56,10 @@ public class ItemController {
     @GetMapping("/{itemId}")
     public ResponseEntity<Object> getById(@Positive
                                           @RequestHeader(name = "X-Sharer-User-Id") Long userId,
+                                          @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
                                           @Positive
                                           @PathVariable Long itemId) {
-        return itemClient.getById(userId, itemId);
+        return itemClient.getById(userId, itemId, ifNoneMatch);
     }
 
     @GetMapping("/search")
@@ -52,12 +68,28 @@ public class ItemController {
                                             @PositiveOrZero
                                             @RequestParam(required = false, defaultValue = "0") Integer from,
                                             @Positive
-                                            @RequestParam(required = false, defaultValue = "10") Integer size) {
-        if (text.isEmpty()) {
+                                            @RequestParam(required = false, defaultValue = "10") Integer size,
+                                            @RequestParam(required = false) String cursor) {
+        if (text.isBlank()) {
             return ResponseEntity.ok(new ArrayList<>());
         }
 
-        return itemClient.getByText(text, userId, from, size);
+        return itemClient.getByText(text, userId, from, size, cursor);
+    }
+
+    @GetMapping("/search/count")
+    public ResponseEntity<Object> countByText(@RequestHeader(name = "X-Sharer-User-Id") Long userId,
+                                              @RequestParam String text) {
+        if (text.isBlank()) {
+            return ResponseEntity.ok(Map.of("total", 0));
+        }
+
+        return itemClient.countByText(text, userId);
+    }
+
+    @GetMapping("/count")
+    public ResponseEntity<Object> countByUserId(@RequestHeader(name = "X-Sharer-User-Id") Long userId) {
+        return itemClient.countByUserId(userId);
     }
 
     @GetMapping
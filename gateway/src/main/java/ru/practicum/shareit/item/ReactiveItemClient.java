@@ -0,0 +1,79 @@
+package ru.practicum.shareit.item;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemShortDto;
+
+import java.util.Map;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveItemClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/items";
+
+    public ReactiveItemClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
+        super(builder.baseUrl(serverUrl + API_PREFIX).build());
+    }
+
+    public Mono<ResponseEntity<Object>> create(ItemShortDto dto, Long userId) {
+        return post("", userId, dto);
+    }
+
+    public Mono<ResponseEntity<Object>> createComment(CommentDto dto, Long userId, Long itemId) {
+        return post(String.format("/%s/comment", itemId), userId, dto);
+    }
+
+    public Mono<ResponseEntity<Object>> getById(Long userId, Long itemId, String ifNoneMatch) {
+        return conditionalGet("/" + itemId, userId, ifNoneMatch);
+    }
+
+    public Mono<ResponseEntity<Object>> getByText(String text, Long userId, Integer from, Integer size, String cursor) {
+        if (cursor != null) {
+            Map<String, Object> parameters = Map.of(
+                    "text", text,
+                    "size", size,
+                    "cursor", cursor
+            );
+            return get("/search?text={text}&size={size}&cursor={cursor}", userId, parameters);
+        }
+        Map<String, Object> parameters = Map.of(
+                "text", text,
+                "from", from,
+                "size", size
+        );
+        return get("/search?text={text}&from={from}&size={size}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> getAllByUserId(Long userId, Integer from, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "size", size
+        );
+        return get("?from={from}&size={size}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> countByText(String text, Long userId) {
+        return get("/search/count?text={text}", userId, Map.of("text", text));
+    }
+
+    public Mono<ResponseEntity<Object>> countByUserId(Long userId) {
+        return get("/count", userId);
+    }
+
+    public Mono<ResponseEntity<Object>> update(Long itemId, Long userId, Object object) {
+        return patch("/" + itemId, userId, object);
+    }
+
+    public Mono<ResponseEntity<Object>> importItems(Long userId, String importId, String contentType,
+                                                    Flux<DataBuffer> body) {
+        return upload("/import", userId, contentType, importId, body);
+    }
+}
@@ -0,0 +1,111 @@
+package ru.practicum.shareit.item;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.annotation.LogExecution;
+import ru.practicum.shareit.bulk.ImportMediaTypes;
+import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemShortDto;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+import java.util.ArrayList;
+import java.util.Map;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping(path = "/items")
+@RequiredArgsConstructor
+@LogExecution
+@Validated
+public class ReactiveItemController {
+
+    private final ReactiveItemClient itemClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<Object>> create(@Valid
+                                               @RequestBody ItemShortDto dto,
+                                               @RequestHeader(name = "X-Sharer-User-Id") Long userId) {
+        return itemClient.create(dto, userId);
+    }
+
+    @PostMapping(path = "/import", consumes = {ImportMediaTypes.NDJSON_VALUE, ImportMediaTypes.CSV_VALUE})
+    public Mono<ResponseEntity<Object>> importItems(@Positive @RequestHeader(name = "X-Sharer-User-Id") Long userId,
+                                                    @RequestHeader(name = BaseClient.IMPORT_ID_HEADER, required = false) String importId,
+                                                    @RequestHeader(name = HttpHeaders.CONTENT_TYPE) String contentType,
+                                                    @RequestBody Flux<DataBuffer> body) {
+        return itemClient.importItems(userId, importId, contentType, body);
+    }
+
+    @PostMapping("/{itemId}/comment")
+    public Mono<ResponseEntity<Object>> createComment(@RequestHeader(name = "X-Sharer-User-Id") Long userId,
+                                                      @Valid
+                                                      @RequestBody CommentDto dto,
+                                                      @Positive
+                                                      @PathVariable Long itemId) {
+        return itemClient.createComment(dto, userId, itemId);
+    }
+
+    @GetMapping("/{itemId}")
+    public Mono<ResponseEntity<Object>> getById(@Positive
+                                                @RequestHeader(name = "X-Sharer-User-Id") Long userId,
+                                                @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                @Positive
+                                                @PathVariable Long itemId) {
+        return itemClient.getById(userId, itemId, ifNoneMatch);
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<Object>> getByText(@RequestHeader(name = "X-Sharer-User-Id") Long userId,
+                                                  @RequestParam String text,
+                                                  @PositiveOrZero
+                                                  @RequestParam(required = false, defaultValue = "0") Integer from,
+                                                  @Positive
+                                                  @RequestParam(required = false, defaultValue = "10") Integer size,
+                                                  @RequestParam(required = false) String cursor) {
+        if (text.isBlank()) {
+            return Mono.just(ResponseEntity.ok(new ArrayList<>()));
+        }
+
+        return itemClient.getByText(text, userId, from, size, cursor);
+    }
+
+    @GetMapping("/search/count")
+    public Mono<ResponseEntity<Object>> countByText(@RequestHeader(name = "X-Sharer-User-Id") Long userId,
+                                                    @RequestParam String text) {
+        if (text.isBlank()) {
+            return Mono.just(ResponseEntity.ok(Map.of("total", 0)));
+        }
+
+        return itemClient.countByText(text, userId);
+    }
+
+    @GetMapping("/count")
+    public Mono<ResponseEntity<Object>> countByUserId(@RequestHeader(name = "X-Sharer-User-Id") Long userId) {
+        return itemClient.countByUserId(userId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Object>> getAllByUserId(@RequestHeader(name = "X-Sharer-User-Id") Long userId,
+                                                       @PositiveOrZero
+                                                       @RequestParam(required = false, defaultValue = "0") Integer from,
+                                                       @Positive
+                                                       @RequestParam(required = false, defaultValue = "10") Integer size) {
+        return itemClient.getAllByUserId(userId, from, size);
+    }
+
+    @PatchMapping("/{itemId}")
+    public Mono<ResponseEntity<Object>> update(@PathVariable Long itemId, @RequestBody Object item,
+                                               @RequestHeader(name = "X-Sharer-User-Id") Long userId) {
+        return itemClient.update(itemId, userId, item);
+    }
+}
@@ -0,0 +1,46 @@
+package ru.practicum.shareit.request;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+
+import java.util.Map;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveRequestClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/requests";
+
+    public ReactiveRequestClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
+        super(builder.baseUrl(serverUrl + API_PREFIX).build());
+    }
+
+    public Mono<ResponseEntity<Object>> create(Long userId, ItemRequestDto dto) {
+        return post("", userId, dto);
+    }
+
+    public Mono<ResponseEntity<Object>> getAllByOwnerId(Long userId) {
+        return get("", userId);
+    }
+
+    public Mono<ResponseEntity<Object>> getAll(Long userId, Integer from, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "size", size
+        );
+        return get("/all?from={from}&size={size}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> countAll(Long userId) {
+        return get("/all/count", userId);
+    }
+
+    public Mono<ResponseEntity<Object>> getById(Long id, Long userId, String ifNoneMatch) {
+        return conditionalGet("/" + id, userId, ifNoneMatch);
+    }
+}
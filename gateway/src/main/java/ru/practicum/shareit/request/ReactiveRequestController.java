@@ -0,0 +1,57 @@
+package ru.practicum.shareit.request;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.annotation.LogExecution;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+
+@Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@LogExecution
+@RequestMapping(path = "/requests")
+@RequiredArgsConstructor
+@Validated
+public class ReactiveRequestController {
+
+    private final ReactiveRequestClient requestClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<Object>> create(@Positive @RequestHeader(name = "X-Sharer-User-Id") Long userId,
+                                               @Valid @RequestBody ItemRequestDto dto) {
+        return requestClient.create(userId, dto);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Object>> getByOwnerId(@Positive @RequestHeader(name = "X-Sharer-User-Id") Long userId) {
+        return requestClient.getAllByOwnerId(userId);
+    }
+
+    @GetMapping("/all")
+    public Mono<ResponseEntity<Object>> getAll(@Positive @RequestHeader(name = "X-Sharer-User-Id") Long userId,
+                                               @PositiveOrZero @RequestParam(required = false, defaultValue = "0") Integer from,
+                                               @Positive @RequestParam(required = false, defaultValue = "1") Integer size) {
+        return requestClient.getAll(userId, from, size);
+    }
+
+    @GetMapping("/all/count")
+    public Mono<ResponseEntity<Object>> countAll(@Positive @RequestHeader(name = "X-Sharer-User-Id") Long userId) {
+        return requestClient.countAll(userId);
+    }
+
+    @GetMapping("/{requestId}")
+    public Mono<ResponseEntity<Object>> getById(@Positive @PathVariable Long requestId,
+                                                @Positive @RequestHeader(name = "X-Sharer-User-Id") Long userId,
+                                                @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return requestClient.getById(requestId, userId, ifNoneMatch);
+    }
+}
@@ -1,6 +1,8 @@
 package ru.practicum.shareit.request;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
@@ -13,6 +15,7 @@ import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
 
 @Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @LogExecution
 @RequestMapping(path = "/requests")
 @RequiredArgsConstructor
@@ -39,9 +42,15 @@ public class RequestController {
         return requestClient.getAll(userId, from, size);
     }
 
+    @GetMapping("/all/count")
+    public ResponseEntity<Object> countAll(@Positive @RequestHeader(name = "X-Sharer-User-Id") Long userId) {
+        return requestClient.countAll(userId);
+    }
+
     @GetMapping("/{requestId}")
     public ResponseEntity<Object> getById(@Positive @PathVariable Long requestId,
-                                          @Positive @RequestHeader(name = "X-Sharer-User-Id") Long userId) {
-        return requestClient.getById(requestId, userId);
+                                          @Positive @RequestHeader(name = "X-Sharer-User-Id") Long userId,
+                                          @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return requestClient.getById(requestId, userId, ifNoneMatch);
     }
 }
@@ -0,0 +1,40 @@
+package ru.practicum.shareit.user;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.user.dto.UserDto;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUserClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/users";
+
+    public ReactiveUserClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
+        super(builder.baseUrl(serverUrl + API_PREFIX).build());
+    }
+
+    public Mono<ResponseEntity<Object>> create(UserDto dto) {
+        return post("", dto);
+    }
+
+    public Mono<ResponseEntity<Object>> getById(Long id) {
+        return get("/" + id);
+    }
+
+    public Mono<ResponseEntity<Object>> getAll() {
+        return get("/");
+    }
+
+    public Mono<ResponseEntity<Object>> update(Long id, UserDto dto) {
+        return patch("/" + id, dto);
+    }
+
+    public Mono<ResponseEntity<Object>> deleteById(Long id) {
+        return delete("/" + id);
+    }
+}
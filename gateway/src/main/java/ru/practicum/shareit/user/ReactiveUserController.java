@@ -0,0 +1,49 @@
+package ru.practicum.shareit.user;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.annotation.LogExecution;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Positive;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping(path = "/users")
+@RequiredArgsConstructor
+@LogExecution
+@Validated
+public class ReactiveUserController {
+    private final ReactiveUserClient userClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<Object>> create(@Valid @RequestBody UserDto dto) {
+        return userClient.create(dto);
+    }
+
+    @GetMapping("/{userId}")
+    public Mono<ResponseEntity<Object>> getById(@Positive @PathVariable Long userId) {
+        return userClient.getById(userId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Object>> getAll() {
+        return userClient.getAll();
+    }
+
+    @PatchMapping("/{userId}")
+    public Mono<ResponseEntity<Object>> update(@Positive @PathVariable Long userId,
+                                               @RequestBody UserDto dto) {
+        return userClient.update(userId, dto);
+    }
+
+    @DeleteMapping("/{userId}")
+    public Mono<ResponseEntity<Object>> delete(@Positive @PathVariable Long userId) {
+        return userClient.deleteById(userId);
+    }
+}
@@ -0,0 +1,263 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import ru.practicum.shareit.bulk.ImportMediaTypes;
+import ru.practicum.shareit.client.BaseClient;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Requests every gateway mode must handle the same way: validation happens in the gateway before the server is
+ * called, and server responses, including errors, reach the caller unchanged.
+ */
+abstract class GatewayContractTest {
+    private static final ShareItServerStub SERVER = new ShareItServerStub();
+    private static final String USER_HEADER = "X-Sharer-User-Id";
+
+    @Autowired
+    private WebTestClient client;
+
+    @DynamicPropertySource
+    static void serverUrl(DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", SERVER::getUrl);
+    }
+
+    @BeforeEach
+    void resetServer() {
+        SERVER.reset();
+    }
+
+    @Test
+    void shouldRejectInvalidUserWithoutCallingServer() {
+        client.post().uri("/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("name", "", "email", "not an email"))
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        Assertions.assertEquals(0, SERVER.getRequestCount());
+    }
+
+    @Test
+    void shouldPassThroughServerErrors() throws InterruptedException {
+        SERVER.enqueue(HttpStatus.NOT_FOUND, MediaType.APPLICATION_JSON, "{\"error\":\"Entity not found\"}");
+
+        client.get().uri("/users/404")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().json("{\"error\":\"Entity not found\"}");
+
+        Assertions.assertEquals("/users/404", SERVER.takeRequest().getUri());
+    }
+
+    @Test
+    void shouldForwardItemSearchWithCursorAndPassNextCursorBack() throws InterruptedException {
+        SERVER.enqueue(HttpStatus.OK, Map.of(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE,
+                "X-Next-Cursor", "next"), "[{\"id\":1,\"name\":\"Drill\"}]");
+
+        client.get().uri("/items/search?text=drill&size=5&cursor=first")
+                .header(USER_HEADER, "7")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Next-Cursor", "next")
+                .expectBody().json("[{\"id\":1,\"name\":\"Drill\"}]");
+
+        ShareItServerStub.Request request = SERVER.takeRequest();
+        Assertions.assertEquals("GET", request.getMethod());
+        Assertions.assertEquals("/items/search?text=drill&size=5&cursor=first", request.getUri());
+        Assertions.assertEquals(List.of("7"), request.getHeader(USER_HEADER));
+    }
+
+    @Test
+    void shouldAnswerBlankItemSearchWithoutCallingServer() {
+        client.get().uri("/items/search?text= ")
+                .header(USER_HEADER, "7")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json("[]");
+
+        Assertions.assertEquals(0, SERVER.getRequestCount());
+    }
+
+    @Test
+    void shouldAnswerBlankItemSearchCountWithoutCallingServer() {
+        client.get().uri("/items/search/count?text= ")
+                .header(USER_HEADER, "7")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json("{\"total\":0}");
+
+        Assertions.assertEquals(0, SERVER.getRequestCount());
+    }
+
+    @Test
+    void shouldRejectInvalidItemWithoutCallingServer() {
+        client.post().uri("/items")
+                .header(USER_HEADER, "7")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("name", "Drill", "description", " "))
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        Assertions.assertEquals(0, SERVER.getRequestCount());
+    }
+
+    @Test
+    void shouldPassThroughNotModifiedItem() throws InterruptedException {
+        SERVER.enqueue(HttpStatus.NOT_MODIFIED, Map.of(HttpHeaders.ETAG, "\"v1\""), "");
+
+        client.get().uri("/items/11")
+                .header(USER_HEADER, "7")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"v1\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"v1\"")
+                .expectBody().isEmpty();
+
+        Assertions.assertEquals(List.of("\"v1\""), SERVER.takeRequest().getHeader(HttpHeaders.IF_NONE_MATCH));
+    }
+
+    @Test
+    void shouldReportUnknownBookingStateWithoutCallingServer() {
+        client.get().uri("/bookings?state=UNKNOWN")
+                .header(USER_HEADER, "7")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR)
+                .expectBody().json("{\"error\":\"Unknown state: UNKNOWN\"}");
+
+        Assertions.assertEquals(0, SERVER.getRequestCount());
+    }
+
+    @Test
+    void shouldForwardOwnerBookingCount() throws InterruptedException {
+        SERVER.enqueue(HttpStatus.OK, MediaType.APPLICATION_JSON, "{\"total\":12}");
+
+        client.get().uri("/bookings/owner/count?state=WAITING")
+                .header(USER_HEADER, "7")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json("{\"total\":12}");
+
+        ShareItServerStub.Request request = SERVER.takeRequest();
+        Assertions.assertEquals("/bookings/owner/count?state=WAITING", request.getUri());
+        Assertions.assertEquals(List.of("7"), request.getHeader(USER_HEADER));
+    }
+
+    @Test
+    void shouldRejectBookingInThePastWithoutCallingServer() {
+        LocalDateTime past = LocalDateTime.now().minusDays(2).withNano(0);
+
+        client.post().uri("/bookings")
+                .header(USER_HEADER, "7")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("itemId", 1, "start", past.toString(), "end", past.plusDays(1).toString()))
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        Assertions.assertEquals(0, SERVER.getRequestCount());
+    }
+
+    @Test
+    void shouldForwardBookingApprovalConflict() throws InterruptedException {
+        SERVER.enqueue(HttpStatus.CONFLICT, MediaType.APPLICATION_JSON, "{\"error\":\"Booking was changed\"}");
+
+        client.patch().uri("/bookings/5?approved=true")
+                .header(USER_HEADER, "7")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.CONFLICT)
+                .expectBody().json("{\"error\":\"Booking was changed\"}");
+
+        ShareItServerStub.Request request = SERVER.takeRequest();
+        Assertions.assertEquals("PATCH", request.getMethod());
+        Assertions.assertEquals("/bookings/5?approved=true", request.getUri());
+    }
+
+    @Test
+    void shouldRejectBlankItemRequestWithoutCallingServer() {
+        client.post().uri("/requests")
+                .header(USER_HEADER, "7")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("description", ""))
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        Assertions.assertEquals(0, SERVER.getRequestCount());
+    }
+
+    @Test
+    void shouldForwardItemRequest() throws InterruptedException {
+        SERVER.enqueue(HttpStatus.OK, MediaType.APPLICATION_JSON, "{\"id\":3,\"description\":\"Need a drill\"}");
+
+        client.post().uri("/requests")
+                .header(USER_HEADER, "7")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("description", "Need a drill"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json("{\"id\":3,\"description\":\"Need a drill\"}");
+
+        ShareItServerStub.Request request = SERVER.takeRequest();
+        Assertions.assertEquals("/requests", request.getUri());
+        Assertions.assertTrue(request.getBody().contains("\"description\":\"Need a drill\""), request.getBody());
+    }
+
+    @Test
+    void shouldStreamImportBodyToServer() throws InterruptedException {
+        String body = "{\"name\":\"Drill\",\"description\":\"Cordless\",\"available\":true}\n" +
+                "{\"name\":\"Saw\",\"description\":\"Hand saw\",\"available\":false}\n";
+        SERVER.enqueue(HttpStatus.OK, MediaType.APPLICATION_JSON, "{\"importId\":\"batch-1\",\"imported\":2}");
+
+        client.post().uri("/items/import")
+                .header(USER_HEADER, "7")
+                .header(BaseClient.IMPORT_ID_HEADER, "batch-1")
+                .contentType(MediaType.valueOf(ImportMediaTypes.NDJSON_VALUE))
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json("{\"importId\":\"batch-1\",\"imported\":2}");
+
+        ShareItServerStub.Request request = SERVER.takeRequest();
+        Assertions.assertEquals("/items/import", request.getUri());
+        Assertions.assertEquals(body, request.getBody());
+        Assertions.assertEquals(List.of("batch-1"), request.getHeader(BaseClient.IMPORT_ID_HEADER));
+        Assertions.assertEquals(List.of(ImportMediaTypes.NDJSON_VALUE), request.getHeader(HttpHeaders.CONTENT_TYPE));
+    }
+
+    @Test
+    void shouldStreamBookingExportFromServer() throws InterruptedException {
+        String body = "{\"id\":1}\n{\"id\":2}\n";
+        SERVER.enqueue(HttpStatus.OK, MediaType.valueOf(ImportMediaTypes.NDJSON_VALUE), body);
+
+        client.get().uri("/bookings/export")
+                .header(USER_HEADER, "7")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.valueOf(ImportMediaTypes.NDJSON_VALUE))
+                .expectBody(String.class).isEqualTo(body);
+
+        Assertions.assertEquals(List.of("7"), SERVER.takeRequest().getHeader(USER_HEADER));
+    }
+
+    @Test
+    void shouldPassThroughExportErrors() {
+        SERVER.enqueue(HttpStatus.NOT_FOUND, MediaType.APPLICATION_JSON, "{\"error\":\"Entity not found\"}");
+
+        client.get().uri("/bookings/owner/export")
+                .header(USER_HEADER, "7")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().json("{\"error\":\"Entity not found\"}");
+    }
+}
@@ -0,0 +1,9 @@
+package ru.practicum.shareit;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(
+        properties = "spring.main.web-application-type=reactive",
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ReactiveGatewayTest extends GatewayContractTest {
+}
@@ -0,0 +1,7 @@
+package ru.practicum.shareit;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ServletGatewayTest extends GatewayContractTest {
+}
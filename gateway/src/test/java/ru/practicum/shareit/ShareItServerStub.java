@@ -0,0 +1,109 @@
+package ru.practicum.shareit;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A stand-in for the ShareIt server: answers with queued responses and records every request it receives.
+ */
+public class ShareItServerStub {
+    private final HttpServer server;
+    private final BlockingQueue<Response> responses = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Request> requests = new LinkedBlockingQueue<>();
+
+    public ShareItServerStub() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    public String getUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public void reset() {
+        responses.clear();
+        requests.clear();
+    }
+
+    public void enqueue(HttpStatus status, MediaType contentType, String body) {
+        enqueue(status, Map.of(HttpHeaders.CONTENT_TYPE, contentType.toString()), body);
+    }
+
+    public void enqueue(HttpStatus status, Map<String, String> headers, String body) {
+        responses.add(new Response(status, headers, body));
+    }
+
+    public Request takeRequest() throws InterruptedException {
+        Request request = requests.poll(5, TimeUnit.SECONDS);
+        if (request == null) {
+            throw new AssertionError("The server received no request");
+        }
+        return request;
+    }
+
+    public int getRequestCount() {
+        return requests.size();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange; InputStream body = exchange.getRequestBody()) {
+            HttpHeaders headers = new HttpHeaders();
+            exchange.getRequestHeaders().forEach(headers::addAll);
+            requests.add(new Request(exchange.getRequestMethod(), exchange.getRequestURI().toString(), headers,
+                    new String(body.readAllBytes(), StandardCharsets.UTF_8)));
+
+            Response response = responses.poll();
+            if (response == null) {
+                response = new Response(HttpStatus.INTERNAL_SERVER_ERROR, Map.of(), "Unexpected request");
+            }
+            response.getHeaders().forEach((name, value) -> exchange.getResponseHeaders().add(name, value));
+            byte[] bytes = response.getBody().getBytes(StandardCharsets.UTF_8);
+            boolean empty = bytes.length == 0 || response.getStatus() == HttpStatus.NOT_MODIFIED;
+            exchange.sendResponseHeaders(response.getStatus().value(), empty ? -1 : bytes.length);
+            if (!empty) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(bytes);
+                }
+            }
+        }
+    }
+
+    @Value
+    public static class Request {
+        String method;
+        String uri;
+        HttpHeaders headers;
+        String body;
+
+        public List<String> getHeader(String name) {
+            return headers.getOrEmpty(name);
+        }
+    }
+
+    @Value
+    private static class Response {
+        HttpStatus status;
+        Map<String, String> headers;
+        String body;
+    }
+}
@@ -0,0 +1,172 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class GatewayResponseCacheTest {
+    private static final Duration TTL = Duration.ofSeconds(5);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicReference<Thread> pausedThread = new AtomicReference<>();
+    private final CountDownLatch paused = new CountDownLatch(1);
+    private final CountDownLatch resumed = new CountDownLatch(1);
+    private GatewayResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        properties.setTtl(Map.of("item", TTL, "request-all", TTL, "user", TTL));
+        cache = new GatewayResponseCache(properties, new SimpleMeterRegistry(), this::read);
+    }
+
+    @Test
+    void shouldServeSecondCallFromCache() {
+        AtomicInteger loads = new AtomicInteger();
+
+        Object first = get("item", "/items", loads).getBody();
+        Object second = get("item", "/items", loads).getBody();
+
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals(first, second);
+    }
+
+    @Test
+    void shouldNotCacheRoutesWithoutTtl() {
+        AtomicInteger loads = new AtomicInteger();
+
+        get("items", "/items", loads);
+        get("items", "/items", loads);
+
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldNotCacheErrorResponses() {
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            cache.get("item", "/items", "/items/1", 1L, () -> {
+                loads.incrementAndGet();
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+            });
+        }
+
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldLoadAgainWhenTtlExpired() {
+        AtomicInteger loads = new AtomicInteger();
+
+        get("item", "/items", loads);
+        nanos.addAndGet(TTL.toNanos() - 1);
+        get("item", "/items", loads);
+        Assertions.assertEquals(1, loads.get());
+
+        nanos.addAndGet(1);
+        get("item", "/items", loads);
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldInvalidateAffectedResources() {
+        AtomicInteger items = new AtomicInteger();
+        AtomicInteger requests = new AtomicInteger();
+        AtomicInteger users = new AtomicInteger();
+        get("item", "/items", items);
+        get("request-all", "/requests", requests);
+        get("user", "/users", users);
+
+        cache.invalidate("/items");
+        get("item", "/items", items);
+        get("request-all", "/requests", requests);
+        get("user", "/users", users);
+
+        Assertions.assertEquals(2, items.get());
+        Assertions.assertEquals(2, requests.get());
+        Assertions.assertEquals(1, users.get());
+
+        cache.invalidate("/users");
+        get("item", "/items", items);
+        get("request-all", "/requests", requests);
+        get("user", "/users", users);
+
+        Assertions.assertEquals(3, items.get());
+        Assertions.assertEquals(3, requests.get());
+        Assertions.assertEquals(2, users.get());
+    }
+
+    @Test
+    void shouldNotCacheResponseLoadedDuringInvalidation() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("item", "/items", "/items/1", 1L, () -> {
+            cache.invalidate("/bookings");
+            return ResponseEntity.ok(loads.incrementAndGet());
+        });
+        get("item", "/items", loads);
+
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldNotServeResponseStoredWhileInvalidationRan() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ResponseEntity<Object>> loader = executor.submit(() ->
+                    cache.get("item", "/items", "/items/1", 1L, () -> {
+                        // Pause on the next clock read, which happens while the response is being stored.
+                        pausedThread.set(Thread.currentThread());
+                        return ResponseEntity.ok(loads.incrementAndGet());
+                    }));
+            Assertions.assertTrue(paused.await(5, TimeUnit.SECONDS));
+
+            Future<?> invalidation = executor.submit(() -> cache.invalidate("/items"));
+            try {
+                invalidation.get(200, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // The invalidation waits for the store of the same key to finish.
+            }
+            resumed.countDown();
+            loader.get(5, TimeUnit.SECONDS);
+            invalidation.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals(2, get("item", "/items", loads).getBody());
+    }
+
+    private long read() {
+        if (pausedThread.compareAndSet(Thread.currentThread(), null)) {
+            paused.countDown();
+            try {
+                resumed.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return nanos.get();
+    }
+
+    private ResponseEntity<Object> get(String route, String resource, AtomicInteger loads) {
+        return cache.get(route, resource, resource + "/1", 1L, () -> ResponseEntity.ok(loads.incrementAndGet()));
+    }
+}
@@ -2,9 +2,13 @@ package ru.practicum.shareit;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.util.Collections;
 
+@EnableCaching
+@EnableScheduling
 @SpringBootApplication
 public class ShareItServer {
 
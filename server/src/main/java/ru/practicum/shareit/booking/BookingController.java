@@ -1,14 +1,25 @@
 package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.annotation.LogExecution;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.EState;
+import ru.practicum.shareit.bulk.ImportController;
+import ru.practicum.shareit.bulk.ImportFormat;
+import ru.practicum.shareit.bulk.ImportReport;
+import ru.practicum.shareit.etag.ETags;
+import ru.practicum.shareit.pagination.TotalCount;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -16,7 +27,11 @@ import java.util.List;
 @RequestMapping(path = "/bookings")
 @LogExecution
 public class BookingController {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final BookingService service;
+    private final BookingImportService importService;
+    private final BookingExportService exportService;
 
     @PostMapping
     public ResponseEntity<Booking> create(@RequestBody BookingDto bookingDto,
@@ -25,6 +40,14 @@ public class BookingController {
                 .body(service.save(bookingDto, userId));
     }
 
+    @PostMapping(path = "/import", consumes = {ImportFormat.NDJSON_VALUE, ImportFormat.CSV_VALUE})
+    public ResponseEntity<ImportReport> importBookings(@RequestHeader(name = "X-Sharer-User-Id") Long userId,
+                                                       @RequestHeader(name = ImportController.IMPORT_ID_HEADER, required = false) String importId,
+                                                       @RequestHeader(name = HttpHeaders.CONTENT_TYPE) String contentType,
+                                                       InputStream body) {
+        return ResponseEntity.ok(importService.importBookings(userId, importId, contentType, body));
+    }
+
     @PatchMapping("/{bookingId}")
     public ResponseEntity<Booking> update(@PathVariable Long bookingId,
                                           @RequestParam Boolean approved,
@@ -34,23 +57,73 @@ public class BookingController {
 
     @GetMapping("/{bookingId}")
     public ResponseEntity<Booking> getById(@PathVariable Long bookingId,
-                                           @RequestHeader(name = "X-Sharer-User-Id") Long userid) {
-        return ResponseEntity.ok(service.getById(bookingId, userid));
+                                           @RequestHeader(name = "X-Sharer-User-Id") Long userid,
+                                           @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = service.getETag(bookingId, userid);
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(service.getById(bookingId, userid));
     }
 
     @GetMapping()
     public ResponseEntity<List<Booking>> getAllByBooker(@RequestParam EState state,
                                                         @RequestHeader(name = "X-Sharer-User-Id") Long userid,
-                                                        @RequestParam Integer from,
-                                                        @RequestParam Integer size) {
+                                                        @RequestParam(defaultValue = "0") Integer from,
+                                                        @RequestParam Integer size,
+                                                        @RequestParam(required = false) String cursor) {
+        if (cursor != null) {
+            return toCursorResponse(service.findAllByCursor(userid, state, cursor, size, false));
+        }
         return ResponseEntity.ok(service.findAll(userid, state, from, size, false));
     }
 
     @GetMapping("/owner")
     public ResponseEntity<List<Booking>> getAllByOwner(@RequestParam EState state,
                                                        @RequestHeader(name = "X-Sharer-User-Id") Long userid,
-                                                       @RequestParam Integer from,
-                                                       @RequestParam Integer size) {
+                                                       @RequestParam(defaultValue = "0") Integer from,
+                                                       @RequestParam Integer size,
+                                                       @RequestParam(required = false) String cursor) {
+        if (cursor != null) {
+            return toCursorResponse(service.findAllByCursor(userid, state, cursor, size, true));
+        }
         return ResponseEntity.ok(service.findAll(userid, state, from, size, true));
     }
+
+    @GetMapping("/count")
+    public ResponseEntity<TotalCount> countByBooker(@RequestParam EState state,
+                                                    @RequestHeader(name = "X-Sharer-User-Id") Long userid) {
+        return ResponseEntity.ok(new TotalCount(service.count(userid, state, false)));
+    }
+
+    @GetMapping("/owner/count")
+    public ResponseEntity<TotalCount> countByOwner(@RequestParam EState state,
+                                                   @RequestHeader(name = "X-Sharer-User-Id") Long userid) {
+        return ResponseEntity.ok(new TotalCount(service.count(userid, state, true)));
+    }
+
+    @GetMapping(path = "/export", produces = ImportFormat.NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportByBooker(@RequestHeader(name = "X-Sharer-User-Id") Long userid) {
+        return toExportResponse(exportService.export(userid, false));
+    }
+
+    @GetMapping(path = "/owner/export", produces = ImportFormat.NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportByOwner(@RequestHeader(name = "X-Sharer-User-Id") Long userid) {
+        return toExportResponse(exportService.export(userid, true));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> toExportResponse(StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.valueOf(ImportFormat.NDJSON_VALUE))
+                .body(body);
+    }
+
+    private static ResponseEntity<List<Booking>> toCursorResponse(Slice<Booking> slice) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (slice.hasNext()) {
+            Booking last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            response.header(NEXT_CURSOR_HEADER, BookingCursor.of(last).encode());
+        }
+        return response.body(slice.getContent());
+    }
 }
@@ -0,0 +1,77 @@
+package ru.practicum.shareit.booking;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.user.UserService;
+
+import javax.persistence.EntityManager;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+public class BookingExportService {
+    public static final String FETCH_SIZE = "500";
+
+    private static final int CLEAR_INTERVAL = 500;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final BookingRepository bookingRepository;
+    private final UserService userService;
+    private final EntityManager entityManager;
+    private final ObjectWriter writer;
+    private final TransactionTemplate transactionTemplate;
+
+    public BookingExportService(BookingRepository bookingRepository, UserService userService,
+                                EntityManager entityManager, ObjectMapper mapper,
+                                PlatformTransactionManager transactionManager) {
+        this.bookingRepository = bookingRepository;
+        this.userService = userService;
+        this.entityManager = entityManager;
+        this.writer = mapper.writerFor(Booking.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public StreamingResponseBody export(Long userId, boolean owner) {
+        userService.checkExists(userId);
+        return out -> {
+            long exported = transactionTemplate.execute(status -> write(userId, owner, out));
+            log.debug("Exported {} bookings of user {} (owner: {})", exported, userId, owner);
+        };
+    }
+
+    private long write(Long userId, boolean owner, OutputStream out) {
+        long exported = 0;
+        try (Stream<Booking> bookings = owner
+                ? bookingRepository.streamAllByOwnerId(userId)
+                : bookingRepository.streamAllByBookerId(userId)) {
+            OutputStream buffer = new BufferedOutputStream(out, BUFFER_SIZE);
+            Iterator<Booking> iterator = bookings.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(buffer, iterator.next());
+                buffer.write('\n');
+                if (++exported % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+            buffer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return exported;
+    }
+}
@@ -0,0 +1,148 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import ru.practicum.shareit.booking.dto.BookingImportDto;
+import ru.practicum.shareit.booking.dto.BookingPeriod;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.EStatus;
+import ru.practicum.shareit.bulk.BulkImporter;
+import ru.practicum.shareit.bulk.ImportError;
+import ru.practicum.shareit.bulk.ImportRecord;
+import ru.practicum.shareit.bulk.ImportReport;
+import ru.practicum.shareit.item.ItemBookingSummaryService;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.model.User;
+
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class BookingImportService {
+    public static final String IMPORT_TYPE = "bookings";
+
+    private final BulkImporter importer;
+    private final BookingRepository bookingRepository;
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+    private final ItemBookingSummaryService summaryService;
+    private final UserService userService;
+
+    public ImportReport importBookings(Long userId, String importId, String contentType, InputStream body) {
+        userService.checkExists(userId);
+        return importer.run(importId, IMPORT_TYPE, userId, contentType, body, BookingImportDto.class,
+                chunk -> writeChunk(userId, chunk));
+    }
+
+    private List<ImportError> writeChunk(Long ownerId, List<ImportRecord<BookingImportDto>> chunk) {
+        Set<Long> itemIds = new TreeSet<>();
+        Set<Long> bookerIds = new TreeSet<>();
+        for (ImportRecord<BookingImportDto> record : chunk) {
+            if (record.getValue().getItemId() != null) {
+                itemIds.add(record.getValue().getItemId());
+            }
+            if (record.getValue().getBookerId() != null) {
+                bookerIds.add(record.getValue().getBookerId());
+            }
+        }
+        Map<Long, Item> items = itemIds.isEmpty() ? Map.of() : itemRepository.lockAllByIdIn(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        Map<Long, User> bookers = userRepository.findAllById(bookerIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, List<BookingPeriod>> approved = findApprovedPeriods(chunk, items.keySet());
+
+        List<ImportError> errors = new ArrayList<>();
+        List<Booking> bookings = new ArrayList<>(chunk.size());
+        for (ImportRecord<BookingImportDto> record : chunk) {
+            BookingImportDto dto = record.getValue();
+            String error = validate(dto, ownerId, items, bookers);
+            if (error == null && dto.getStatus() == EStatus.APPROVED) {
+                List<BookingPeriod> periods = approved.computeIfAbsent(dto.getItemId(), id -> new ArrayList<>());
+                if (periods.stream().anyMatch(period -> period.overlaps(dto.getStart(), dto.getEnd()))) {
+                    error = "Item is already booked for these dates";
+                } else {
+                    periods.add(new BookingPeriod(dto.getItemId(), dto.getStart(), dto.getEnd()));
+                }
+            }
+            if (error != null) {
+                errors.add(new ImportError(record.getLine(), error));
+                continue;
+            }
+            bookings.add(Booking.builder()
+                    .item(items.get(dto.getItemId()))
+                    .booker(bookers.get(dto.getBookerId()))
+                    .start(dto.getStart())
+                    .end(dto.getEnd())
+                    .status(dto.getStatus() != null ? dto.getStatus() : EStatus.WAITING)
+                    .build());
+        }
+        bookingRepository.saveAll(bookings);
+
+        bookings.stream()
+                .map(Booking::getItem)
+                .distinct()
+                .forEach(itemRepository::incrementVersion);
+        bookings.stream()
+                .filter(booking -> booking.getStatus() == EStatus.APPROVED)
+                .map(booking -> booking.getItem().getId())
+                .distinct()
+                .forEach(summaryService::refresh);
+        return errors;
+    }
+
+    private static String validate(BookingImportDto dto, Long ownerId, Map<Long, Item> items, Map<Long, User> bookers) {
+        Item item = dto.getItemId() != null ? items.get(dto.getItemId()) : null;
+        if (item == null) {
+            return "Item not found";
+        }
+        if (!Objects.equals(item.getUser().getId(), ownerId)) {
+            return "Insufficient rights to execute the operation";
+        }
+        if (dto.getBookerId() == null || !bookers.containsKey(dto.getBookerId())) {
+            return "Booker not found";
+        }
+        if (Objects.equals(dto.getBookerId(), ownerId)) {
+            return "You can't book that";
+        }
+        if (dto.getStart() == null || dto.getEnd() == null || !dto.getEnd().isAfter(dto.getStart())) {
+            return "Incorrect booking time";
+        }
+        return null;
+    }
+
+    /**
+     * Loads the approved periods of the locked items that could clash with an approved record of the chunk,
+     * so overlaps are checked in memory instead of with one query per record.
+     */
+    private Map<Long, List<BookingPeriod>> findApprovedPeriods(List<ImportRecord<BookingImportDto>> chunk,
+                                                               Set<Long> itemIds) {
+        LocalDateTime from = null;
+        LocalDateTime to = null;
+        for (ImportRecord<BookingImportDto> record : chunk) {
+            BookingImportDto dto = record.getValue();
+            if (dto.getStatus() != EStatus.APPROVED || dto.getStart() == null || dto.getEnd() == null) {
+                continue;
+            }
+            from = from == null || dto.getStart().isBefore(from) ? dto.getStart() : from;
+            to = to == null || dto.getEnd().isAfter(to) ? dto.getEnd() : to;
+        }
+        if (from == null || itemIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return bookingRepository.findAllPeriodsByItemIdInAndStatus(itemIds, EStatus.APPROVED, from, to).stream()
+                .collect(Collectors.groupingBy(BookingPeriod::getItemId));
+    }
+}
@@ -1,50 +1,278 @@
 package ru.practicum.shareit.booking;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.booking.dto.BookingPeriod;
+import ru.practicum.shareit.booking.dto.BookingVersion;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.EStatus;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
-    Page<Booking> findAllByBookerIdAndStatusOrderByStartDesc(Long userId, EStatus status, Pageable pageable);
+    @Override
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    Optional<Booking> findById(Long id);
+
+    @Query(" select b.version as version, bk.id as bookerId, o.id as ownerId, i.version as itemVersion, " +
+            "bk.version as bookerVersion, o.version as ownerVersion, " +
+            "r.version as requestVersion, ru.version as requesterVersion " +
+            "from Booking b " +
+            "join b.booker bk " +
+            "join b.item i " +
+            "join i.user o " +
+            "left join i.request r " +
+            "left join r.user ru " +
+            "where b.id = ?1")
+    Optional<BookingVersion> findVersionById(Long id);
 
-    Page<Booking> findAllByBookerIdOrderByStartDesc(Long userId, Pageable pageable);
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    Slice<Booking> findAllByBookerIdAndStatusOrderByStartDesc(Long userId, EStatus status, Pageable pageable);
 
-    Page<Booking> findAllByBookerIdAndEndBeforeOrderByStartDesc(Long userId, LocalDateTime dateTime, Pageable pageable);
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    Slice<Booking> findAllByBookerIdOrderByStartDesc(Long userId, Pageable pageable);
 
-    Page<Booking> findAllByBookerIdAndStartAfterOrderByStartDesc(Long userId, LocalDateTime dateTime, Pageable pageable);
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    Slice<Booking> findAllByBookerIdAndEndBeforeOrderByStartDesc(Long userId, LocalDateTime dateTime, Pageable pageable);
+
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    Slice<Booking> findAllByBookerIdAndStartAfterOrderByStartDesc(Long userId, LocalDateTime dateTime, Pageable pageable);
 
     @Query(" select b from Booking b " +
             "where b.booker.id = ?1 " +
             "and b.end > ?2 " +
             "and b.start < ?2 " +
             "order by b.start desc")
-    Page<Booking> findAllCurrentBookingsByUserId(Long userId, LocalDateTime dateTime, Pageable pageable);
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    Slice<Booking> findAllCurrentBookingsByUserId(Long userId, LocalDateTime dateTime, Pageable pageable);
 
-    Page<Booking> findAllByItemUserIdAndStatusOrderByStartDesc(Long userId, EStatus status, Pageable pageable);
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    Slice<Booking> findAllByItemUserIdAndStatusOrderByStartDesc(Long userId, EStatus status, Pageable pageable);
 
-    Page<Booking> findAllByItemUserIdOrderByStartDesc(Long userId, Pageable pageable);
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    Slice<Booking> findAllByItemUserIdOrderByStartDesc(Long userId, Pageable pageable);
 
-    Page<Booking> findAllByItemUserIdAndEndBeforeOrderByStartDesc(Long userId, LocalDateTime dateTime, Pageable pageable);
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    Slice<Booking> findAllByItemUserIdAndEndBeforeOrderByStartDesc(Long userId, LocalDateTime dateTime, Pageable pageable);
 
-    Page<Booking> findAllByItemUserIdAndStartAfterOrderByStartDesc(Long userId, LocalDateTime dateTime, Pageable pageable);
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    Slice<Booking> findAllByItemUserIdAndStartAfterOrderByStartDesc(Long userId, LocalDateTime dateTime, Pageable pageable);
 
     @Query(" select b from Booking b " +
             "where b.item.user.id = ?1 " +
             "and b.end > ?2 " +
             "and b.start < ?2 " +
             "order by b.start desc")
-    Page<Booking> findAllCurrentBookingsByOwnerId(Long userId, LocalDateTime dateTime, Pageable pageable);
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    Slice<Booking> findAllCurrentBookingsByOwnerId(Long userId, LocalDateTime dateTime, Pageable pageable);
+
+    long countByBookerIdAndStatus(Long userId, EStatus status);
+
+    long countByBookerId(Long userId);
+
+    long countByBookerIdAndEndBefore(Long userId, LocalDateTime dateTime);
+
+    long countByBookerIdAndStartAfter(Long userId, LocalDateTime dateTime);
+
+    @Query(" select count(b) from Booking b " +
+            "where b.booker.id = ?1 " +
+            "and b.end > ?2 " +
+            "and b.start < ?2")
+    long countCurrentBookingsByUserId(Long userId, LocalDateTime dateTime);
+
+    long countByItemUserIdAndStatus(Long userId, EStatus status);
+
+    long countByItemUserId(Long userId);
+
+    long countByItemUserIdAndEndBefore(Long userId, LocalDateTime dateTime);
+
+    long countByItemUserIdAndStartAfter(Long userId, LocalDateTime dateTime);
+
+    @Query(" select count(b) from Booking b " +
+            "where b.item.user.id = ?1 " +
+            "and b.end > ?2 " +
+            "and b.start < ?2")
+    long countCurrentBookingsByOwnerId(Long userId, LocalDateTime dateTime);
+
+    @Query(" select b from Booking b " +
+            "where b.booker.id = ?1 " +
+            "and (b.start < ?2 or (b.start = ?2 and b.id < ?3)) " +
+            "order by b.start desc, b.id desc")
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    Slice<Booking> findAllByBookerIdAfterCursor(Long userId, LocalDateTime start, Long id, Pageable pageable);
+
+    @Query(" select b from Booking b " +
+            "where b.booker.id = ?1 " +
+            "and b.status = ?4 " +
+            "and (b.start < ?2 or (b.start = ?2 and b.id < ?3)) " +
+            "order by b.start desc, b.id desc")
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    Slice<Booking> findAllByBookerIdAndStatusAfterCursor(Long userId, LocalDateTime start, Long id, EStatus status,
+                                                          Pageable pageable);
+
+    @Query(" select b from Booking b " +
+            "where b.booker.id = ?1 " +
+            "and b.end < ?4 " +
+            "and (b.start < ?2 or (b.start = ?2 and b.id < ?3)) " +
+            "order by b.start desc, b.id desc")
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    Slice<Booking> findAllPastBookingsByBookerIdAfterCursor(Long userId, LocalDateTime start, Long id,
+                                                             LocalDateTime dateTime, Pageable pageable);
+
+    @Query(" select b from Booking b " +
+            "where b.booker.id = ?1 " +
+            "and b.start > ?4 " +
+            "and (b.start < ?2 or (b.start = ?2 and b.id < ?3)) " +
+            "order by b.start desc, b.id desc")
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    Slice<Booking> findAllFutureBookingsByBookerIdAfterCursor(Long userId, LocalDateTime start, Long id,
+                                                               LocalDateTime dateTime, Pageable pageable);
+
+    @Query(" select b from Booking b " +
+            "where b.booker.id = ?1 " +
+            "and b.end > ?4 " +
+            "and b.start < ?4 " +
+            "and (b.start < ?2 or (b.start = ?2 and b.id < ?3)) " +
+            "order by b.start desc, b.id desc")
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    Slice<Booking> findAllCurrentBookingsByBookerIdAfterCursor(Long userId, LocalDateTime start, Long id,
+                                                                LocalDateTime dateTime, Pageable pageable);
+
+    @Query(" select b from Booking b " +
+            "where b.item.user.id = ?1 " +
+            "and (b.start < ?2 or (b.start = ?2 and b.id < ?3)) " +
+            "order by b.start desc, b.id desc")
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    Slice<Booking> findAllByOwnerIdAfterCursor(Long userId, LocalDateTime start, Long id, Pageable pageable);
+
+    @Query(" select b from Booking b " +
+            "where b.item.user.id = ?1 " +
+            "and b.status = ?4 " +
+            "and (b.start < ?2 or (b.start = ?2 and b.id < ?3)) " +
+            "order by b.start desc, b.id desc")
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    Slice<Booking> findAllByOwnerIdAndStatusAfterCursor(Long userId, LocalDateTime start, Long id, EStatus status,
+                                                         Pageable pageable);
+
+    @Query(" select b from Booking b " +
+            "where b.item.user.id = ?1 " +
+            "and b.end < ?4 " +
+            "and (b.start < ?2 or (b.start = ?2 and b.id < ?3)) " +
+            "order by b.start desc, b.id desc")
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    Slice<Booking> findAllPastBookingsByOwnerIdAfterCursor(Long userId, LocalDateTime start, Long id,
+                                                            LocalDateTime dateTime, Pageable pageable);
+
+    @Query(" select b from Booking b " +
+            "where b.item.user.id = ?1 " +
+            "and b.start > ?4 " +
+            "and (b.start < ?2 or (b.start = ?2 and b.id < ?3)) " +
+            "order by b.start desc, b.id desc")
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    Slice<Booking> findAllFutureBookingsByOwnerIdAfterCursor(Long userId, LocalDateTime start, Long id,
+                                                              LocalDateTime dateTime, Pageable pageable);
+
+    @Query(" select b from Booking b " +
+            "where b.item.user.id = ?1 " +
+            "and b.end > ?4 " +
+            "and b.start < ?4 " +
+            "and (b.start < ?2 or (b.start = ?2 and b.id < ?3)) " +
+            "order by b.start desc, b.id desc")
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    Slice<Booking> findAllCurrentBookingsByOwnerIdAfterCursor(Long userId, LocalDateTime start, Long id,
+                                                               LocalDateTime dateTime, Pageable pageable);
+
+    @Query(" select new ru.practicum.shareit.booking.dto.BookingPeriod(b.item.id, b.start, b.end) " +
+            "from Booking b " +
+            "where b.item.id in ?1 " +
+            "and b.status = ?2 " +
+            "and b.start < ?4 " +
+            "and b.end > ?3")
+    List<BookingPeriod> findAllPeriodsByItemIdInAndStatus(Collection<Long> itemIds, EStatus status,
+                                                          LocalDateTime from, LocalDateTime to);
+
+    boolean existsByItemIdAndStatusAndStartBeforeAndEndAfter(Long itemId, EStatus status, LocalDateTime end,
+                                                             LocalDateTime start);
 
     Booking findFirstByItemIdAndStatusAndStartBeforeOrderByEndDesc(Long itemId, EStatus status, LocalDateTime start);
 
     Booking findFirstByItemIdAndStatusAndStartAfterOrderByStartAsc(Long itemId, EStatus status, LocalDateTime start);
 
+    @Query(" select b from Booking b " +
+            "join fetch b.booker " +
+            "where b.item.id in ?1 " +
+            "and b.status = ?2 " +
+            "and b.start < ?3 " +
+            "and b.end = (select max(lb.end) from Booking lb " +
+            "where lb.item.id = b.item.id " +
+            "and lb.status = ?2 " +
+            "and lb.start < ?3)")
+    List<Booking> findAllLastBookingsByItemIds(Collection<Long> itemIds, EStatus status, LocalDateTime dateTime);
+
+    @Query(" select b from Booking b " +
+            "join fetch b.booker " +
+            "where b.item.id in ?1 " +
+            "and b.status = ?2 " +
+            "and b.start > ?3 " +
+            "and b.start = (select min(nb.start) from Booking nb " +
+            "where nb.item.id = b.item.id " +
+            "and nb.status = ?2 " +
+            "and nb.start > ?3)")
+    List<Booking> findAllNextBookingsByItemIds(Collection<Long> itemIds, EStatus status, LocalDateTime dateTime);
+
+    @Query(" select b from Booking b " +
+            "where b.booker.id = ?1 " +
+            "order by b.start desc, b.id desc")
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    @QueryHints({
+            @QueryHint(name = HINT_READONLY, value = "true"),
+            @QueryHint(name = HINT_FETCH_SIZE, value = BookingExportService.FETCH_SIZE)
+    })
+    Stream<Booking> streamAllByBookerId(Long userId);
+
+    @Query(" select b from Booking b " +
+            "where b.item.user.id = ?1 " +
+            "order by b.start desc, b.id desc")
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    @QueryHints({
+            @QueryHint(name = HINT_READONLY, value = "true"),
+            @QueryHint(name = HINT_FETCH_SIZE, value = BookingExportService.FETCH_SIZE)
+    })
+    Stream<Booking> streamAllByOwnerId(Long userId);
+
     Booking findFirstByItemIdAndBookerIdAndStatusAndEndBefore(Long itemId, Long bookerId, EStatus status, LocalDateTime end);
 }
@@ -1,43 +1,54 @@
 package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.BeanUtils;
-import org.springframework.beans.BeanWrapper;
-import org.springframework.beans.BeanWrapperImpl;
-import org.springframework.data.domain.Page;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingVersion;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.EState;
 import ru.practicum.shareit.booking.model.EStatus;
+import ru.practicum.shareit.etag.ETags;
 import ru.practicum.shareit.exception.BadRequestException;
+import ru.practicum.shareit.exception.ConflictException;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.ItemBookingSummaryService;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.pagination.PaginationProperties;
+import ru.practicum.shareit.pagination.Paging;
 import ru.practicum.shareit.user.UserService;
 import ru.practicum.shareit.user.model.User;
 
-import java.beans.FeatureDescriptor;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Stream;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 public class BookingService {
     private final BookingRepository bookingRepository;
     private final ItemRepository itemRepository;
+    private final ItemBookingSummaryService summaryService;
     private final UserService userService;
+    private final PaginationProperties paginationProperties;
 
+    @Transactional
     public Booking save(BookingDto bookingDto, Long userId) {
-        Item item = itemRepository.findById(bookingDto.getItemId()).orElseThrow(() -> new NotFoundException("Item not found"));
+        Item item = itemRepository.findWithRequestById(bookingDto.getItemId()).orElseThrow(() -> new NotFoundException("Item not found"));
         User user = userService.getById(userId);
         Booking booking = BookingMapper.toEntity(bookingDto, user, item);
         bookingValidation(booking);
-        return bookingRepository.save(booking);
+        overlapValidation(booking);
+        Booking saved = bookingRepository.save(booking);
+        onBookingChanged(saved);
+        return saved;
     }
 
     private void bookingValidation(Booking booking) {
@@ -52,6 +63,13 @@ public class BookingService {
         }
     }
 
+    private void overlapValidation(Booking booking) {
+        if (bookingRepository.existsByItemIdAndStatusAndStartBeforeAndEndAfter(booking.getItem().getId(),
+                EStatus.APPROVED, booking.getEnd(), booking.getStart())) {
+            throw new ConflictException("Item is already booked for these dates");
+        }
+    }
+
     private boolean bookingDateValidation(LocalDateTime start, LocalDateTime end) {
         if (start == null || end == null) {
             return false;
@@ -61,23 +79,22 @@ public class BookingService {
                 !end.isBefore(LocalDateTime.now());
     }
 
+    @Transactional
     public Booking update(Long id, Boolean approved, Long userId) {
-        Booking booking = new Booking();
-        if (approved) {
-            booking.setStatus(EStatus.APPROVED);
-        } else {
-            booking.setStatus(EStatus.REJECTED);
-        }
         return bookingRepository.findById(id).map(model -> {
 
             if (Objects.equals(model.getItem().getUser().getId(), userId)) {
                 if (model.getStatus().equals(EStatus.APPROVED)) {
                     throw new BadRequestException("Booking was approved");
                 }
-                String[] nulls = getNullPropertyNames(booking);
-
-                BeanUtils.copyProperties(booking, model, nulls);
-                return bookingRepository.save(model);
+                if (approved) {
+                    itemRepository.lockById(model.getItem().getId());
+                    overlapValidation(model);
+                }
+                model.setStatus(approved ? EStatus.APPROVED : EStatus.REJECTED);
+                Booking saved = bookingRepository.save(model);
+                onBookingChanged(saved);
+                return saved;
             } else {
                 throw new NotFoundException("Insufficient rights to execute the operation");
             }
@@ -85,14 +102,15 @@ public class BookingService {
 
     }
 
-    private String[] getNullPropertyNames(Object source) {
-        final BeanWrapper wrappedSource = new BeanWrapperImpl(source);
-        return Stream.of(wrappedSource.getPropertyDescriptors())
-                .map(FeatureDescriptor::getName)
-                .filter(propertyName -> wrappedSource.getPropertyValue(propertyName) == null)
-                .toArray(String[]::new);
+    private void onBookingChanged(Booking booking) {
+        Long itemId = booking.getItem().getId();
+        itemRepository.incrementVersion(booking.getItem());
+        if (booking.getStatus() == EStatus.APPROVED) {
+            summaryService.refresh(itemId);
+        }
     }
 
+    @Transactional(readOnly = true)
     public Booking getById(Long id, Long userId) {
         Booking booking = bookingRepository.findById(id).orElseThrow(() -> new NotFoundException("Entity not found"));
         if (booking.getBooker().getId().equals(userId) || booking.getItem().getUser().getId().equals(userId)) {
@@ -102,9 +120,22 @@ public class BookingService {
         }
     }
 
+    @Transactional(readOnly = true)
+    public String getETag(Long id, Long userId) {
+        BookingVersion version = bookingRepository.findVersionById(id)
+                .orElseThrow(() -> new NotFoundException("Entity not found"));
+        if (!version.getBookerId().equals(userId) && !version.getOwnerId().equals(userId)) {
+            throw new NotFoundException("Insufficient rights to execute the operation");
+        }
+
+        return ETags.of(id, version.getVersion(), version.getItemVersion(), version.getBookerVersion(),
+                version.getOwnerVersion(), version.getRequestVersion(), version.getRequesterVersion());
+    }
+
+    @Transactional(readOnly = true)
     public List<Booking> findAll(Long userId, EState state, Integer from, Integer size, boolean owner) {
         LocalDateTime now = LocalDateTime.now();
-        userService.getById(userId);
+        userService.checkExists(userId);
         PageRequest pageRequest = PageRequest.of(from, size);
         if (!owner) {
             return findAllByUserIdAndState(userId, state, pageRequest, now);
@@ -113,89 +144,185 @@ public class BookingService {
         }
     }
 
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = Paging.TOTAL_COUNTS_CACHE, key = "{'bookings', #userId, #state, #owner}")
+    public long count(Long userId, EState state, boolean owner) {
+        LocalDateTime now = LocalDateTime.now();
+        userService.checkExists(userId);
+        return owner ? countByOwnerIdAndState(userId, state, now) : countByUserIdAndState(userId, state, now);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<Booking> findAllByCursor(Long userId, EState state, String cursor, Integer size, boolean owner) {
+        LocalDateTime now = LocalDateTime.now();
+        BookingCursor bookingCursor = BookingCursor.decode(cursor);
+        userService.checkExists(userId);
+        PageRequest pageRequest = PageRequest.of(0, size);
+        if (!owner) {
+            return findAllByUserIdAndStateAfterCursor(userId, state, bookingCursor, pageRequest, now);
+        } else {
+            return findAllByOwnerIdAndStateAfterCursor(userId, state, bookingCursor, pageRequest, now);
+        }
+    }
+
+    private Slice<Booking> findAllByUserIdAndStateAfterCursor(Long userId,
+                                                              EState state,
+                                                              BookingCursor cursor,
+                                                              Pageable pageable,
+                                                              LocalDateTime time) {
+        switch (state) {
+            case PAST:
+                return bookingRepository.findAllPastBookingsByBookerIdAfterCursor(userId,
+                        cursor.getStart(), cursor.getId(), time, pageable);
+            case CURRENT:
+                return bookingRepository.findAllCurrentBookingsByBookerIdAfterCursor(userId,
+                        cursor.getStart(), cursor.getId(), time, pageable);
+            case FUTURE:
+                return bookingRepository.findAllFutureBookingsByBookerIdAfterCursor(userId,
+                        cursor.getStart(), cursor.getId(), time, pageable);
+            case WAITING:
+                return bookingRepository.findAllByBookerIdAndStatusAfterCursor(userId,
+                        cursor.getStart(), cursor.getId(), EStatus.WAITING, pageable);
+            case REJECTED:
+                return bookingRepository.findAllByBookerIdAndStatusAfterCursor(userId,
+                        cursor.getStart(), cursor.getId(), EStatus.REJECTED, pageable);
+            default:
+                return bookingRepository.findAllByBookerIdAfterCursor(userId,
+                        cursor.getStart(), cursor.getId(), pageable);
+        }
+    }
+
+    private Slice<Booking> findAllByOwnerIdAndStateAfterCursor(Long userId,
+                                                               EState state,
+                                                               BookingCursor cursor,
+                                                               Pageable pageable,
+                                                               LocalDateTime time) {
+        switch (state) {
+            case PAST:
+                return bookingRepository.findAllPastBookingsByOwnerIdAfterCursor(userId,
+                        cursor.getStart(), cursor.getId(), time, pageable);
+            case CURRENT:
+                return bookingRepository.findAllCurrentBookingsByOwnerIdAfterCursor(userId,
+                        cursor.getStart(), cursor.getId(), time, pageable);
+            case FUTURE:
+                return bookingRepository.findAllFutureBookingsByOwnerIdAfterCursor(userId,
+                        cursor.getStart(), cursor.getId(), time, pageable);
+            case WAITING:
+                return bookingRepository.findAllByOwnerIdAndStatusAfterCursor(userId,
+                        cursor.getStart(), cursor.getId(), EStatus.WAITING, pageable);
+            case REJECTED:
+                return bookingRepository.findAllByOwnerIdAndStatusAfterCursor(userId,
+                        cursor.getStart(), cursor.getId(), EStatus.REJECTED, pageable);
+            default:
+                return bookingRepository.findAllByOwnerIdAfterCursor(userId,
+                        cursor.getStart(), cursor.getId(), pageable);
+        }
+    }
+
     private List<Booking> findAllByUserIdAndState(Long userId, EState state, Pageable pageable, LocalDateTime time) {
-        Page<Booking> content;
+        Function<Pageable, Slice<Booking>> loader;
         switch (state) {
             case PAST:
-                content = bookingRepository.findAllByBookerIdAndEndBeforeOrderByStartDesc(userId,
+                loader = page -> bookingRepository.findAllByBookerIdAndEndBeforeOrderByStartDesc(userId,
                         time,
-                        pageable);
+                        page);
                 break;
             case CURRENT:
-                content = bookingRepository.findAllCurrentBookingsByUserId(userId,
+                loader = page -> bookingRepository.findAllCurrentBookingsByUserId(userId,
                         time,
-                        pageable);
+                        page);
                 break;
             case FUTURE:
-                content = bookingRepository.findAllByBookerIdAndStartAfterOrderByStartDesc(userId,
+                loader = page -> bookingRepository.findAllByBookerIdAndStartAfterOrderByStartDesc(userId,
                         time,
-                        pageable);
+                        page);
                 break;
             case WAITING:
-                content = bookingRepository.findAllByBookerIdAndStatusOrderByStartDesc(userId,
+                loader = page -> bookingRepository.findAllByBookerIdAndStatusOrderByStartDesc(userId,
                         EStatus.WAITING,
-                        pageable);
+                        page);
                 break;
             case REJECTED:
-                content = bookingRepository.findAllByBookerIdAndStatusOrderByStartDesc(userId,
+                loader = page -> bookingRepository.findAllByBookerIdAndStatusOrderByStartDesc(userId,
                         EStatus.REJECTED,
-                        pageable);
+                        page);
                 break;
             default:
-                content = bookingRepository.findAllByBookerIdOrderByStartDesc(userId,
-                        pageable);
+                loader = page -> bookingRepository.findAllByBookerIdOrderByStartDesc(userId,
+                        page);
                 break;
         }
-        if (content.isEmpty() && content.getTotalPages() != 0) {
-            return findAllByUserIdAndState(userId, state, getLastPage(content), time);
-        } else {
-            return content.getContent();
-        }
+        return Paging.getContent(loader.apply(pageable), paginationProperties,
+                () -> countByUserIdAndState(userId, state, time), loader);
     }
 
     private List<Booking> findAllByOwnerIdAndState(Long userId, EState state, Pageable pageable, LocalDateTime time) {
-        Page<Booking> content;
+        Function<Pageable, Slice<Booking>> loader;
         switch (state) {
             case PAST:
-                content = bookingRepository.findAllByItemUserIdAndEndBeforeOrderByStartDesc(userId,
+                loader = page -> bookingRepository.findAllByItemUserIdAndEndBeforeOrderByStartDesc(userId,
                         time,
-                        pageable);
+                        page);
                 break;
             case CURRENT:
-                content = bookingRepository.findAllCurrentBookingsByOwnerId(userId,
+                loader = page -> bookingRepository.findAllCurrentBookingsByOwnerId(userId,
                         time,
-                        pageable);
+                        page);
                 break;
             case FUTURE:
-                content = bookingRepository.findAllByItemUserIdAndStartAfterOrderByStartDesc(userId,
+                loader = page -> bookingRepository.findAllByItemUserIdAndStartAfterOrderByStartDesc(userId,
                         time,
-                        pageable);
+                        page);
                 break;
             case WAITING:
-                content = bookingRepository.findAllByItemUserIdAndStatusOrderByStartDesc(userId,
+                loader = page -> bookingRepository.findAllByItemUserIdAndStatusOrderByStartDesc(userId,
                         EStatus.WAITING,
-                        pageable);
+                        page);
                 break;
             case REJECTED:
-                content = bookingRepository.findAllByItemUserIdAndStatusOrderByStartDesc(userId,
+                loader = page -> bookingRepository.findAllByItemUserIdAndStatusOrderByStartDesc(userId,
                         EStatus.REJECTED,
-                        pageable);
+                        page);
                 break;
             default:
-                content = bookingRepository.findAllByItemUserIdOrderByStartDesc(userId,
-                        pageable);
+                loader = page -> bookingRepository.findAllByItemUserIdOrderByStartDesc(userId,
+                        page);
         }
+        return Paging.getContent(loader.apply(pageable), paginationProperties,
+                () -> countByOwnerIdAndState(userId, state, time), loader);
+    }
 
-        if (content.isEmpty() && content.getTotalPages() != 0) {
-            return findAllByOwnerIdAndState(userId, state, getLastPage(content), time);
-        } else {
-            return content.getContent();
+    private long countByUserIdAndState(Long userId, EState state, LocalDateTime time) {
+        switch (state) {
+            case PAST:
+                return bookingRepository.countByBookerIdAndEndBefore(userId, time);
+            case CURRENT:
+                return bookingRepository.countCurrentBookingsByUserId(userId, time);
+            case FUTURE:
+                return bookingRepository.countByBookerIdAndStartAfter(userId, time);
+            case WAITING:
+                return bookingRepository.countByBookerIdAndStatus(userId, EStatus.WAITING);
+            case REJECTED:
+                return bookingRepository.countByBookerIdAndStatus(userId, EStatus.REJECTED);
+            default:
+                return bookingRepository.countByBookerId(userId);
         }
     }
 
-    private Pageable getLastPage(Page<Booking> content) {
-        int from = content.getTotalPages() - 1;
-        int size = content.getSize();
-        return PageRequest.of(from, size);
+    private long countByOwnerIdAndState(Long userId, EState state, LocalDateTime time) {
+        switch (state) {
+            case PAST:
+                return bookingRepository.countByItemUserIdAndEndBefore(userId, time);
+            case CURRENT:
+                return bookingRepository.countCurrentBookingsByOwnerId(userId, time);
+            case FUTURE:
+                return bookingRepository.countByItemUserIdAndStartAfter(userId, time);
+            case WAITING:
+                return bookingRepository.countByItemUserIdAndStatus(userId, EStatus.WAITING);
+            case REJECTED:
+                return bookingRepository.countByItemUserIdAndStatus(userId, EStatus.REJECTED);
+            default:
+                return bookingRepository.countByItemUserId(userId);
+        }
     }
 }
@@ -0,0 +1,19 @@
+package ru.practicum.shareit.booking.dto;
+
+public interface BookingVersion {
+    Long getVersion();
+
+    Long getBookerId();
+
+    Long getOwnerId();
+
+    Long getItemVersion();
+
+    Long getBookerVersion();
+
+    Long getOwnerVersion();
+
+    Long getRequestVersion();
+
+    Long getRequesterVersion();
+}
@@ -0,0 +1,172 @@
+package ru.practicum.shareit.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.exception.BadRequestException;
+import ru.practicum.shareit.exception.ConflictException;
+import ru.practicum.shareit.exception.NotFoundException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class BulkImporter {
+    private final ImportProperties properties;
+    private final ObjectMapper mapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry registry;
+    private final Cache<String, ImportReport> reports;
+
+    public BulkImporter(ImportProperties properties, ObjectMapper mapper,
+                        PlatformTransactionManager transactionManager, MeterRegistry registry) {
+        this.properties = properties;
+        this.mapper = mapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.registry = registry;
+        this.reports = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getReportRetention())
+                .maximumSize(10_000)
+                .build();
+    }
+
+    public <T> ImportReport run(String importId, String type, Long userId, String contentType, InputStream body,
+                                Class<T> recordType, ChunkWriter<T> writer) {
+        ImportFormat format = ImportFormat.of(contentType);
+        Progress progress = new Progress(importId != null ? importId : UUID.randomUUID().toString(), type, userId);
+        ImportReport started = progress.report(ImportStatus.RUNNING);
+        ImportReport current = reports.asMap().compute(progress.id,
+                (id, existing) -> existing == null || canReplace(existing, userId) ? started : existing);
+        if (current != started) {
+            throw new ConflictException(current.getStatus() == ImportStatus.RUNNING
+                    ? "Import " + progress.id + " is still running"
+                    : "Import " + progress.id + " already exists");
+        }
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        try (ImportRecordReader<T> records = new ImportRecordReader<>(reader, format, mapper, recordType)) {
+            List<ImportRecord<T>> chunk;
+            while (!(chunk = records.nextChunk(properties.getChunkSize())).isEmpty()) {
+                writeChunk(progress, chunk, writer);
+                reports.put(progress.id, progress.report(ImportStatus.RUNNING));
+                log.debug("Import {}: {} records processed, {} imported, {} failed",
+                        progress.id, progress.processed, progress.imported, progress.failed);
+            }
+        } catch (IOException e) {
+            reports.put(progress.id, progress.report(ImportStatus.FAILED));
+            throw new BadRequestException("Unable to read import body: " + e.getMessage());
+        } catch (RuntimeException e) {
+            reports.put(progress.id, progress.report(ImportStatus.FAILED));
+            throw e;
+        }
+
+        ImportReport report = progress.report(ImportStatus.COMPLETED);
+        reports.put(progress.id, report);
+        log.info("Import {} of {} completed: {} imported, {} failed",
+                progress.id, type, progress.imported, progress.failed);
+        return report;
+    }
+
+    public ImportReport getReport(String importId, Long userId) {
+        ImportReport report = reports.getIfPresent(importId);
+        if (report == null || !Objects.equals(report.getUserId(), userId)) {
+            throw new NotFoundException("Import not found");
+        }
+        return report;
+    }
+
+    // A retry may reuse the id of the caller's own failed or completed import; a running one keeps it.
+    private static boolean canReplace(ImportReport existing, Long userId) {
+        return existing.getStatus() != ImportStatus.RUNNING && Objects.equals(existing.getUserId(), userId);
+    }
+
+    private <T> void writeChunk(Progress progress, List<ImportRecord<T>> chunk, ChunkWriter<T> writer) {
+        List<ImportError> errors = new ArrayList<>();
+        List<ImportRecord<T>> valid = new ArrayList<>(chunk.size());
+        for (ImportRecord<T> record : chunk) {
+            if (record.isValid()) {
+                valid.add(record);
+            } else {
+                errors.add(new ImportError(record.getLine(), record.getError()));
+            }
+        }
+        if (!valid.isEmpty()) {
+            List<ImportError> rejected = transactionTemplate.execute(status -> writer.write(valid));
+            if (rejected != null) {
+                errors.addAll(rejected);
+            }
+        }
+        errors.sort(Comparator.comparingLong(ImportError::getLine));
+
+        progress.chunkWritten(chunk.size(), errors, properties.getMaxReportedErrors());
+        counter(progress.type, "imported").increment(chunk.size() - errors.size());
+        counter(progress.type, "rejected").increment(errors.size());
+    }
+
+    private Counter counter(String type, String result) {
+        return Counter.builder("shareit.import.records")
+                .tag("type", type)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static class Progress {
+        private final String id;
+        private final String type;
+        private final Long userId;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final List<ImportError> errors = new ArrayList<>();
+        private long processed;
+        private long imported;
+        private long failed;
+
+        Progress(String id, String type, Long userId) {
+            this.id = id;
+            this.type = type;
+            this.userId = userId;
+        }
+
+        void chunkWritten(int records, List<ImportError> chunkErrors, int maxReportedErrors) {
+            processed += records;
+            failed += chunkErrors.size();
+            imported += records - chunkErrors.size();
+            for (ImportError error : chunkErrors) {
+                if (errors.size() >= maxReportedErrors) {
+                    break;
+                }
+                errors.add(error);
+            }
+        }
+
+        ImportReport report(ImportStatus status) {
+            return ImportReport.builder()
+                    .id(id)
+                    .type(type)
+                    .userId(userId)
+                    .status(status)
+                    .processed(processed)
+                    .imported(imported)
+                    .failed(failed)
+                    .errors(List.copyOf(errors))
+                    .startedAt(startedAt)
+                    .updatedAt(LocalDateTime.now())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package ru.practicum.shareit.bulk;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface ChunkWriter<T> {
+    List<ImportError> write(List<ImportRecord<T>> chunk);
+}
@@ -0,0 +1,22 @@
+package ru.practicum.shareit.bulk;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.annotation.LogExecution;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(path = "/imports")
+@LogExecution
+public class ImportController {
+    public static final String IMPORT_ID_HEADER = "X-Import-Id";
+
+    private final BulkImporter importer;
+
+    @GetMapping("/{importId}")
+    public ResponseEntity<ImportReport> getReport(@PathVariable String importId,
+                                                  @RequestHeader(name = "X-Sharer-User-Id") Long userId) {
+        return ResponseEntity.ok(importer.getReport(importId, userId));
+    }
+}
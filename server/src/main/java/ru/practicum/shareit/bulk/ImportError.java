@@ -0,0 +1,9 @@
+package ru.practicum.shareit.bulk;
+
+import lombok.Value;
+
+@Value
+public class ImportError {
+    long line;
+    String message;
+}
@@ -0,0 +1,32 @@
+package ru.practicum.shareit.bulk;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import ru.practicum.shareit.exception.BadRequestException;
+
+public enum ImportFormat {
+    NDJSON,
+    CSV;
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final String CSV_VALUE = "text/csv";
+
+    private static final MediaType NDJSON_TYPE = MediaType.valueOf(NDJSON_VALUE);
+    private static final MediaType CSV_TYPE = MediaType.valueOf(CSV_VALUE);
+
+    public static ImportFormat of(String contentType) {
+        MediaType mediaType;
+        try {
+            mediaType = MediaType.valueOf(contentType);
+        } catch (InvalidMediaTypeException e) {
+            throw new BadRequestException("Unsupported import format: " + contentType);
+        }
+        if (NDJSON_TYPE.includes(mediaType)) {
+            return NDJSON;
+        }
+        if (CSV_TYPE.includes(mediaType)) {
+            return CSV;
+        }
+        throw new BadRequestException("Unsupported import format: " + contentType);
+    }
+}
@@ -0,0 +1,21 @@
+package ru.practicum.shareit.bulk;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@ConfigurationProperties(prefix = "shareit.import")
+public class ImportProperties {
+    int chunkSize = 1000;
+    int maxReportedErrors = 100;
+    Duration reportRetention = Duration.ofHours(1);
+}
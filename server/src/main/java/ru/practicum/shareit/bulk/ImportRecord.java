@@ -0,0 +1,22 @@
+package ru.practicum.shareit.bulk;
+
+import lombok.Value;
+
+@Value
+public class ImportRecord<T> {
+    long line;
+    T value;
+    String error;
+
+    public static <T> ImportRecord<T> valid(long line, T value) {
+        return new ImportRecord<>(line, value, null);
+    }
+
+    public static <T> ImportRecord<T> invalid(long line, String error) {
+        return new ImportRecord<>(line, null, error);
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+}
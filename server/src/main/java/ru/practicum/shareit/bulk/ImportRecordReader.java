@@ -0,0 +1,131 @@
+package ru.practicum.shareit.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ru.practicum.shareit.exception.BadRequestException;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ImportRecordReader<T> implements Closeable {
+    private final BufferedReader reader;
+    private final ImportFormat format;
+    private final ObjectMapper mapper;
+    private final Class<T> type;
+    private List<String> header;
+    private long line;
+
+    public ImportRecordReader(BufferedReader reader, ImportFormat format, ObjectMapper mapper, Class<T> type) {
+        this.reader = reader;
+        this.format = format;
+        this.mapper = mapper;
+        this.type = type;
+    }
+
+    public List<ImportRecord<T>> nextChunk(int size) throws IOException {
+        List<ImportRecord<T>> chunk = new ArrayList<>(size);
+        String text;
+        while (chunk.size() < size && (text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            if (format == ImportFormat.CSV && header == null) {
+                header = readHeader(text);
+                continue;
+            }
+            chunk.add(parse(text));
+        }
+        return chunk;
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private ImportRecord<T> parse(String text) {
+        try {
+            T value = format == ImportFormat.NDJSON
+                    ? mapper.readValue(text, type)
+                    : mapper.convertValue(toFields(parseCsvLine(text)), type);
+            if (value == null) {
+                return ImportRecord.invalid(line, "Malformed record");
+            }
+            return ImportRecord.valid(line, value);
+        } catch (JsonProcessingException e) {
+            return ImportRecord.invalid(line, "Malformed record: " + e.getOriginalMessage());
+        } catch (IllegalArgumentException e) {
+            if (e.getCause() instanceof JsonProcessingException) {
+                return ImportRecord.invalid(line,
+                        "Malformed record: " + ((JsonProcessingException) e.getCause()).getOriginalMessage());
+            }
+            return ImportRecord.invalid(line, "Malformed record: " + e.getMessage());
+        }
+    }
+
+    private List<String> readHeader(String text) {
+        List<String> columns = new ArrayList<>();
+        try {
+            for (String column : parseCsvLine(text)) {
+                columns.add(column.trim());
+            }
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Malformed CSV header: " + e.getMessage());
+        }
+        return columns;
+    }
+
+    private Map<String, String> toFields(List<String> values) {
+        if (values.size() != header.size()) {
+            throw new IllegalArgumentException(String.format("expected %d columns but found %d",
+                    header.size(), values.size()));
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            String value = values.get(i);
+            fields.put(header.get(i), value.isEmpty() ? null : value);
+        }
+        return fields;
+    }
+
+    static List<String> parseCsvLine(String text) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    value.append(c);
+                } else if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quoted value");
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
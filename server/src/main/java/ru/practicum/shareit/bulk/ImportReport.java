@@ -0,0 +1,22 @@
+package ru.practicum.shareit.bulk;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Value
+@Builder
+public class ImportReport {
+    String id;
+    String type;
+    Long userId;
+    ImportStatus status;
+    long processed;
+    long imported;
+    long failed;
+    List<ImportError> errors;
+    LocalDateTime startedAt;
+    LocalDateTime updatedAt;
+}
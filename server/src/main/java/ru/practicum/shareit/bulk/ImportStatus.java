@@ -0,0 +1,7 @@
+package ru.practicum.shareit.bulk;
+
+public enum ImportStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
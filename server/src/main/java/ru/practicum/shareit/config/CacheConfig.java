@@ -0,0 +1,41 @@
+package ru.practicum.shareit.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.practicum.shareit.pagination.PaginationProperties;
+import ru.practicum.shareit.pagination.Paging;
+
+@Configuration
+public class CacheConfig {
+
+    // Caffeine puts and evictions are applied immediately; defer them to commit so a rolled-back
+    // write never leaves its values in the cache.
+    @Bean
+    public static BeanPostProcessor transactionAwareCacheManager() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof CacheManager && !(bean instanceof TransactionAwareCacheManagerProxy)) {
+                    return new TransactionAwareCacheManagerProxy((CacheManager) bean);
+                }
+                return bean;
+            }
+        };
+    }
+
+    // Totals are not evicted on writes, so they get their own short expiry instead of the shared spec.
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> totalCountsCache(PaginationProperties properties) {
+        return cacheManager -> cacheManager.registerCustomCache(Paging.TOTAL_COUNTS_CACHE, Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(properties.getTotalCountTtl())
+                .recordStats()
+                .build());
+    }
+}
@@ -0,0 +1,41 @@
+package ru.practicum.shareit.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class DataSourcePoolConfig {
+    private static final String POSTGRES_URL_PREFIX = "jdbc:postgresql:";
+
+    @Bean
+    public static BeanPostProcessor hikariPoolCustomizer(ObjectProvider<DataSourcePoolProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource) {
+                    customize((HikariDataSource) bean, beanName, properties.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    static void customize(HikariDataSource dataSource, String beanName, DataSourcePoolProperties properties) {
+        if (dataSource.getPoolName() == null) {
+            dataSource.setPoolName(beanName);
+        }
+
+        String jdbcUrl = dataSource.getJdbcUrl();
+        if (jdbcUrl != null && jdbcUrl.startsWith(POSTGRES_URL_PREFIX)) {
+            dataSource.addDataSourceProperty("prepareThreshold", properties.getPrepareThreshold());
+            dataSource.addDataSourceProperty("preparedStatementCacheQueries",
+                    properties.getPreparedStatementCacheQueries());
+            dataSource.addDataSourceProperty("preparedStatementCacheSizeMiB",
+                    properties.getPreparedStatementCacheSizeMib());
+            dataSource.addDataSourceProperty("reWriteBatchedInserts", properties.isReWriteBatchedInserts());
+        }
+    }
+}
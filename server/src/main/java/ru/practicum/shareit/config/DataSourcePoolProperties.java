@@ -0,0 +1,20 @@
+package ru.practicum.shareit.config;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@ConfigurationProperties(prefix = "shareit.datasource.pool")
+public class DataSourcePoolProperties {
+    int prepareThreshold = 5;
+    int preparedStatementCacheQueries = 256;
+    int preparedStatementCacheSizeMib = 5;
+    boolean reWriteBatchedInserts = true;
+}
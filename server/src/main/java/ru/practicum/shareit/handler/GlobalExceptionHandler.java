@@ -3,7 +3,10 @@ package ru.practicum.shareit.handler;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
 import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -11,7 +14,9 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.exception.BadRequestException;
+import ru.practicum.shareit.exception.ConflictException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.exception.PermissionException;
 
@@ -52,6 +57,32 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(new ErrorInfo(errors), HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ErrorInfo> conflictExceptionHandler(ConflictException exception) {
+        List<String> errors = new ArrayList<>();
+        errors.add(exception.getMessage());
+        return new ResponseEntity<>(new ErrorInfo(errors), HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorInfo> optimisticLockingFailureExceptionHandler(OptimisticLockingFailureException exception) {
+        log.info("Concurrent modification: {}", exception.getMessage());
+        List<String> errors = new ArrayList<>();
+        errors.add("Entity was modified concurrently");
+        return new ResponseEntity<>(new ErrorInfo(errors), HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorInfo> dataIntegrityViolationExceptionHandler(DataIntegrityViolationException exception) {
+        String cause = NestedExceptionUtils.getMostSpecificCause(exception).getMessage();
+        if (cause != null && cause.contains(Booking.NO_OVERLAP_CONSTRAINT)) {
+            List<String> errors = new ArrayList<>();
+            errors.add("Item is already booked for these dates");
+            return new ResponseEntity<>(new ErrorInfo(errors), HttpStatus.CONFLICT);
+        }
+        return commonHandler(exception);
+    }
+
     @ExceptionHandler(ConversionFailedException.class)
     public ResponseEntity<ErrorInfo> conversionFailedExceptionHandler(RuntimeException exception) {
         List<String> errors = new ArrayList<>();
@@ -0,0 +1,21 @@
+package ru.practicum.shareit.item;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@ConfigurationProperties(prefix = "shareit.booking-summary.sweeper")
+public class ItemBookingSummaryProperties {
+    boolean enabled = true;
+    Duration interval = Duration.ofSeconds(30);
+    int batchSize = 500;
+}
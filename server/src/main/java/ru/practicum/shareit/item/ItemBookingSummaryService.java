@@ -0,0 +1,64 @@
+package ru.practicum.shareit.item;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.EStatus;
+import ru.practicum.shareit.item.model.BookingSnapshot;
+import ru.practicum.shareit.item.model.ItemBookingSummary;
+import ru.practicum.shareit.item.repository.ItemBookingSummaryRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ItemBookingSummaryService {
+    private final ItemBookingSummaryRepository summaryRepository;
+    private final BookingRepository bookingRepository;
+    private final ItemRepository itemRepository;
+
+    @Transactional
+    public void refresh(Long itemId) {
+        LocalDateTime now = LocalDateTime.now();
+        Booking last = bookingRepository.findFirstByItemIdAndStatusAndStartBeforeOrderByEndDesc(itemId,
+                EStatus.APPROVED, now);
+        Booking next = bookingRepository.findFirstByItemIdAndStatusAndStartAfterOrderByStartAsc(itemId,
+                EStatus.APPROVED, now);
+
+        summaryRepository.save(ItemBookingSummary.builder()
+                .itemId(itemId)
+                .lastBooking(toSnapshot(last))
+                .nextBooking(toSnapshot(next))
+                .refreshAt(next != null ? next.getStart() : null)
+                .build());
+    }
+
+    @Transactional
+    public int refreshStale(int batchSize) {
+        List<Long> itemIds = summaryRepository.findStaleItemIds(LocalDateTime.now(), PageRequest.of(0, batchSize));
+        if (itemIds.isEmpty()) {
+            return 0;
+        }
+
+        itemRepository.lockAllByIdIn(itemIds);
+        itemIds.forEach(this::refresh);
+        return itemIds.size();
+    }
+
+    private static BookingSnapshot toSnapshot(Booking booking) {
+        if (booking == null) {
+            return null;
+        }
+        return BookingSnapshot.builder()
+                .bookingId(booking.getId())
+                .bookerId(booking.getBooker().getId())
+                .start(booking.getStart())
+                .end(booking.getEnd())
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package ru.practicum.shareit.item;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.booking-summary.sweeper.enabled", havingValue = "true", matchIfMissing = true)
+public class ItemBookingSummarySweeper {
+    private final ItemBookingSummaryService summaryService;
+    private final ItemBookingSummaryProperties properties;
+
+    @Scheduled(fixedDelayString = "${shareit.booking-summary.sweeper.interval:PT30S}")
+    public void sweep() {
+        int batchSize = properties.getBatchSize();
+        int refreshed;
+        int total = 0;
+        do {
+            refreshed = summaryService.refreshStale(batchSize);
+            total += refreshed;
+        } while (refreshed == batchSize);
+
+        if (total > 0) {
+            log.debug("Refreshed {} item booking summaries", total);
+        }
+    }
+}
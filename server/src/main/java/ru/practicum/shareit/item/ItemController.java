@@ -1,15 +1,26 @@
 package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.annotation.LogExecution;
+import ru.practicum.shareit.booking.BookingController;
+import ru.practicum.shareit.bulk.ImportController;
+import ru.practicum.shareit.bulk.ImportFormat;
+import ru.practicum.shareit.bulk.ImportReport;
+import ru.practicum.shareit.etag.ETags;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemSearchCursor;
+import ru.practicum.shareit.item.dto.ItemSearchHit;
 import ru.practicum.shareit.item.dto.ItemShortDto;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.pagination.TotalCount;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -18,6 +29,8 @@ import java.util.List;
 @LogExecution
 public class ItemController {
     private final ItemService service;
+    private final ItemLookupCoalescer lookup;
+    private final ItemImportService importService;
 
     @PostMapping
     public ResponseEntity<ItemShortDto> create(@RequestBody ItemShortDto dto,
@@ -26,6 +39,14 @@ public class ItemController {
         return ResponseEntity.status(HttpStatus.CREATED).body(service.create(userId, dto));
     }
 
+    @PostMapping(path = "/import", consumes = {ImportFormat.NDJSON_VALUE, ImportFormat.CSV_VALUE})
+    public ResponseEntity<ImportReport> importItems(@RequestHeader(name = "X-Sharer-User-Id") Long userId,
+                                                    @RequestHeader(name = ImportController.IMPORT_ID_HEADER, required = false) String importId,
+                                                    @RequestHeader(name = HttpHeaders.CONTENT_TYPE) String contentType,
+                                                    InputStream body) {
+        return ResponseEntity.ok(importService.importItems(userId, importId, contentType, body));
+    }
+
     @PostMapping("/{itemId}/comment")
     public ResponseEntity<CommentDto> create(@RequestHeader(name = "X-Sharer-User-Id") Long userId,
                                              @RequestBody CommentDto comment,
@@ -35,17 +56,36 @@ public class ItemController {
 
     @GetMapping("/{itemId}")
     public ResponseEntity<ItemDto> getById(@RequestHeader(name = "X-Sharer-User-Id") Long userId,
+                                           @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
                                            @PathVariable Long itemId) {
-        return ResponseEntity.ok(service.getById(itemId, userId));
+        String eTag = service.getETag(itemId, userId);
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(lookup.getById(itemId, userId, eTag));
     }
 
     @GetMapping("/search")
     public ResponseEntity<List<ItemShortDto>> getItemsByText(@RequestParam String text,
-                                                             @RequestParam Integer from,
-                                                             @RequestParam Integer size) {
+                                                             @RequestParam(defaultValue = "0") Integer from,
+                                                             @RequestParam Integer size,
+                                                             @RequestParam(required = false) String cursor) {
+        if (cursor != null) {
+            return toCursorResponse(service.getItemsByTextAfterCursor(text, cursor, size));
+        }
         return ResponseEntity.ok(service.getItemsByText(text, from, size));
     }
 
+    @GetMapping("/search/count")
+    public ResponseEntity<TotalCount> countByText(@RequestParam String text) {
+        return ResponseEntity.ok(new TotalCount(service.countByText(text)));
+    }
+
+    @GetMapping("/count")
+    public ResponseEntity<TotalCount> countByUserId(@RequestHeader(name = "X-Sharer-User-Id") Long id) {
+        return ResponseEntity.ok(new TotalCount(service.countByUserId(id)));
+    }
+
     @GetMapping
     public ResponseEntity<List<ItemDto>> getAllByUserId(@RequestHeader(name = "X-Sharer-User-Id") Long id,
                                                         @RequestParam Integer from,
@@ -58,4 +98,12 @@ public class ItemController {
                                                @RequestHeader(name = "X-Sharer-User-Id") Long userId) {
         return ResponseEntity.ok(service.update(itemId, item, userId));
     }
+
+    private static ResponseEntity<List<ItemShortDto>> toCursorResponse(Slice<ItemSearchHit> slice) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (slice.hasNext()) {
+            response.header(BookingController.NEXT_CURSOR_HEADER, ItemSearchCursor.of(slice).encode());
+        }
+        return response.body(slice.map(ItemSearchHit::toItemShortDto).getContent());
+    }
 }
@@ -0,0 +1,85 @@
+package ru.practicum.shareit.item;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import ru.practicum.shareit.bulk.BulkImporter;
+import ru.practicum.shareit.bulk.ImportError;
+import ru.practicum.shareit.bulk.ImportRecord;
+import ru.practicum.shareit.bulk.ImportReport;
+import ru.practicum.shareit.item.dto.ItemShortDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.model.User;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class ItemImportService {
+    public static final String IMPORT_TYPE = "items";
+
+    private final BulkImporter importer;
+    private final ItemRepository itemRepository;
+    private final ItemRequestRepository itemRequestRepository;
+    private final UserService userService;
+
+    public ImportReport importItems(Long userId, String importId, String contentType, InputStream body) {
+        User owner = userService.getById(userId);
+        return importer.run(importId, IMPORT_TYPE, userId, contentType, body, ItemShortDto.class,
+                chunk -> writeChunk(owner, chunk));
+    }
+
+    private List<ImportError> writeChunk(User owner, List<ImportRecord<ItemShortDto>> chunk) {
+        Set<Long> requestIds = chunk.stream()
+                .map(record -> record.getValue().getRequestId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, ItemRequest> requests = itemRequestRepository.findAllById(requestIds).stream()
+                .collect(Collectors.toMap(ItemRequest::getId, Function.identity()));
+
+        List<ImportError> errors = new ArrayList<>();
+        List<Item> items = new ArrayList<>(chunk.size());
+        for (ImportRecord<ItemShortDto> record : chunk) {
+            ItemShortDto dto = record.getValue();
+            String error = validate(dto, requests);
+            if (error != null) {
+                errors.add(new ImportError(record.getLine(), error));
+                continue;
+            }
+            Item item = ItemMapper.toEntity(dto);
+            item.setUser(owner);
+            if (dto.getRequestId() != null) {
+                item.setRequest(requests.get(dto.getRequestId()));
+            }
+            items.add(item);
+        }
+        itemRepository.saveAll(items);
+        return errors;
+    }
+
+    private static String validate(ItemShortDto dto, Map<Long, ItemRequest> requests) {
+        if (dto.getName() == null || dto.getName().isBlank()) {
+            return "Name is blank";
+        }
+        if (dto.getDescription() == null || dto.getDescription().isBlank()) {
+            return "Description is blank";
+        }
+        if (dto.getAvailable() == null) {
+            return "Availability is missing";
+        }
+        if (dto.getRequestId() != null && !requests.containsKey(dto.getRequestId())) {
+            return "Request not found";
+        }
+        return null;
+    }
+}
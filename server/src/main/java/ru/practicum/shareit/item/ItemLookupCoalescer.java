@@ -0,0 +1,32 @@
+package ru.practicum.shareit.item;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Value;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.coalescing.SingleFlight;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+@Component
+public class ItemLookupCoalescer {
+    private final ItemService itemService;
+    private final SingleFlight<ItemView, ItemDto> flights;
+
+    public ItemLookupCoalescer(ItemService itemService, MeterRegistry registry) {
+        this.itemService = itemService;
+        this.flights = new SingleFlight<>("item-lookup", registry);
+    }
+
+    /**
+     * The ETag already covers the owner view, so callers only share a flight when they were promised the same
+     * representation; a load that started before a change can never be handed out under the newer ETag.
+     */
+    public ItemDto getById(Long id, Long userId, String eTag) {
+        return flights.execute(new ItemView(id, eTag), () -> itemService.getById(id, userId));
+    }
+
+    @Value
+    private static class ItemView {
+        Long itemId;
+        String eTag;
+    }
+}
@@ -7,6 +7,7 @@ import ru.practicum.shareit.booking.dto.BookingDtoForItem;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemShortDto;
+import ru.practicum.shareit.item.model.BookingSnapshot;
 import ru.practicum.shareit.item.model.Item;
 
 import java.util.List;
@@ -35,6 +36,30 @@ public class ItemMapper {
                 .build();
     }
 
+    public static void patch(Item source, Item target) {
+        if (source.getName() != null) {
+            target.setName(source.getName());
+        }
+        if (source.getDescription() != null) {
+            target.setDescription(source.getDescription());
+        }
+        if (source.getAvailable() != null) {
+            target.setAvailable(source.getAvailable());
+        }
+    }
+
+    public static BookingDtoForItem toBookingDtoForItem(BookingSnapshot snapshot) {
+        if (snapshot == null) {
+            return null;
+        }
+        return BookingDtoForItem.builder()
+                .id(snapshot.getBookingId())
+                .bookerId(snapshot.getBookerId())
+                .start(snapshot.getStart())
+                .end(snapshot.getEnd())
+                .build();
+    }
+
     public static ItemDto toDto(Item item,
                          BookingDtoForItem prev,
                          BookingDtoForItem next,
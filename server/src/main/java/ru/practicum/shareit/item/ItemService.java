@@ -1,37 +1,47 @@
 package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.BeanUtils;
-import org.springframework.beans.BeanWrapper;
-import org.springframework.beans.BeanWrapperImpl;
-import org.springframework.data.domain.Page;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.BookingMapper;
 import ru.practicum.shareit.booking.BookingRepository;
 import ru.practicum.shareit.booking.dto.BookingDtoForItem;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.EStatus;
+import ru.practicum.shareit.etag.ETags;
 import ru.practicum.shareit.exception.BadRequestException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.exception.PermissionException;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemSearchCursor;
+import ru.practicum.shareit.item.dto.ItemSearchHit;
 import ru.practicum.shareit.item.dto.ItemShortDto;
+import ru.practicum.shareit.item.dto.ItemVersion;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemBookingSummary;
 import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemBookingSummaryRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.pagination.PaginationProperties;
+import ru.practicum.shareit.pagination.Paging;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.UserService;
 
-import java.beans.FeatureDescriptor;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -41,7 +51,10 @@ public class ItemService {
     private final ItemRequestRepository itemRequestRepository;
     private final UserService userService;
     private final CommentRepository commentRepository;
+    private final ItemBookingSummaryRepository summaryRepository;
+    private final PaginationProperties paginationProperties;
 
+    @Transactional
     public ItemShortDto create(Long userId, ItemShortDto dto) {
         Item item = ItemMapper.toEntity(dto);
         Long requestId = dto.getRequestId();
@@ -57,6 +70,7 @@ public class ItemService {
         return dto;
     }
 
+    @Transactional
     public CommentDto addComment(CommentDto comment, Long userId, Long itemId) {
 
         commentValidation(userId, itemId);
@@ -69,6 +83,7 @@ public class ItemService {
                         .item(itemRepository.findById(itemId).orElseThrow(() -> new NotFoundException("Item not found")))
                         .build()
         );
+        itemRepository.incrementVersion(savedComment.getItem());
         return CommentMapper.toDto(savedComment);
     }
 
@@ -84,38 +99,78 @@ public class ItemService {
         }
     }
 
+    @Transactional(readOnly = true)
     public ItemDto getById(Long id, Long userId) {
         return itemRepository.findById(id).map(item -> createItemDto(item, userId))
                 .orElseThrow(() -> new NotFoundException("Entity not found"));
     }
 
+    @Transactional(readOnly = true)
+    public String getETag(Long id, Long userId) {
+        ItemVersion version = itemRepository.findVersionById(id, EStatus.APPROVED, LocalDateTime.now())
+                .orElseThrow(() -> new NotFoundException("Entity not found"));
+        boolean owner = version.getOwnerId().equals(userId);
+
+        return ETags.of(id, version.getVersion(), version.getCommentAuthorsVersion(), owner,
+                owner ? version.getStartedBookings() : null);
+    }
+
+    @Transactional(readOnly = true)
     public List<ItemDto> getAllByUserId(Long id, Integer from, Integer size) {
-        Page<Item> content = itemRepository.findAllByUserIdOrderByIdAsc(id, PageRequest.of(from, size));
-        if (content.isEmpty() && content.getTotalPages() != 0) {
-            content = itemRepository.findAllByUserIdOrderByIdAsc(id, getLastPage(content));
-        }
-        return content.stream()
-                .map(item -> createItemDto(item, id))
-                .collect(Collectors.toList());
+        List<Item> content = Paging.getContent(
+                itemRepository.findAllByUserIdOrderByIdAsc(id, PageRequest.of(from, size)),
+                paginationProperties,
+                () -> itemRepository.countByUserId(id),
+                page -> itemRepository.findAllByUserIdOrderByIdAsc(id, page));
+        return createItemDtos(content, id);
+    }
+
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = Paging.TOTAL_COUNTS_CACHE, key = "{'items', #id}")
+    public long countByUserId(Long id) {
+        return itemRepository.countByUserId(id);
     }
 
+    @Transactional(readOnly = true)
     public List<ItemShortDto> getItemsByText(String text, Integer from, Integer size) {
-        Page<Item> content = itemRepository.findByText(text, PageRequest.of(from, size));
-        if (content.isEmpty() && content.getTotalPages() != 0) {
-            content = itemRepository.findByText(text, getLastPage(content));
+        if (text == null || text.isBlank()) {
+            return Collections.emptyList();
         }
+        return Paging.getContent(
+                itemRepository.findByText(text, PageRequest.of(from, size)),
+                paginationProperties,
+                () -> itemRepository.countByText(text),
+                page -> itemRepository.findByText(text, page));
+    }
+
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = Paging.TOTAL_COUNTS_CACHE, key = "{'search', #text.toUpperCase(T(java.util.Locale).ROOT)}")
+    public long countByText(String text) {
+        if (text.isBlank()) {
+            return 0;
+        }
+        return itemRepository.countByText(text);
+    }
 
-        return content.stream()
-                .map(ItemMapper::toShortDto)
+    @Transactional(readOnly = true)
+    public Slice<ItemSearchHit> getItemsByTextAfterCursor(String text, String cursor, Integer size) {
+        ItemSearchCursor searchCursor = ItemSearchCursor.decode(cursor);
+        if (text == null || text.isBlank()) {
+            return new SliceImpl<>(Collections.emptyList());
+        }
+        Slice<ItemSearchHit> hits = itemRepository.findByTextAfterCursor(text, searchCursor.getId(),
+                PageRequest.of(0, size));
+        List<ItemSearchHit> ranked = hits.getContent().stream()
+                .sorted(Comparator.comparing(ItemSearchHit::getRank).thenComparing(ItemSearchHit::getId))
                 .collect(Collectors.toList());
+        return new SliceImpl<>(ranked, hits.getPageable(), hits.hasNext());
     }
 
+    @Transactional
     public ItemShortDto update(Long id, Item item, Long userId) {
         return itemRepository.findById(id).map(model -> {
             if (Objects.equals(model.getUser().getId(), userId)) {
-                String[] nulls = getNullPropertyNames(item);
-
-                BeanUtils.copyProperties(item, model, nulls);
+                ItemMapper.patch(item, model);
                 return  ItemMapper.toShortDto(itemRepository.save(model));
             } else {
                 throw new PermissionException("Insufficient rights to execute the operation");
@@ -124,14 +179,6 @@ public class ItemService {
 
     }
 
-    private String[] getNullPropertyNames(Object source) {
-        final BeanWrapper wrappedSource = new BeanWrapperImpl(source);
-        return Stream.of(wrappedSource.getPropertyDescriptors())
-                .map(FeatureDescriptor::getName)
-                .filter(propertyName -> wrappedSource.getPropertyValue(propertyName) == null)
-                .toArray(String[]::new);
-    }
-
     private ItemDto createItemDto(Item item, Long userId) {
 
         LocalDateTime now = LocalDateTime.now();
@@ -141,8 +188,12 @@ public class ItemService {
 
         BookingDtoForItem prev = null;
         BookingDtoForItem next = null;
+        ItemBookingSummary summary = null;
         if (item.getUser().getId().equals(userId)) {
+            summary = summaryRepository.findById(item.getId()).orElse(null);
+        }
 
+        if (summary != null && summary.isStale(now)) {
             prev = BookingMapper.toBookingDtoForItem(
                     bookingRepository.findFirstByItemIdAndStatusAndStartBeforeOrderByEndDesc(
                             item.getId(),
@@ -155,14 +206,64 @@ public class ItemService {
                             EStatus.APPROVED,
                             now
                     ));
+        } else if (summary != null) {
+            prev = ItemMapper.toBookingDtoForItem(summary.getLastBooking());
+            next = ItemMapper.toBookingDtoForItem(summary.getNextBooking());
         }
 
         return ItemMapper.toDto(item, prev, next, comments);
     }
 
-    private Pageable getLastPage(Page<Item> content) {
-        int from = content.getTotalPages() - 1;
-        int size = content.getSize();
-        return PageRequest.of(from, size);
+    private List<ItemDto> createItemDtos(List<Item> items, Long userId) {
+        if (items.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> itemIds = items.stream()
+                .map(Item::getId)
+                .collect(Collectors.toList());
+        List<Long> ownItemIds = items.stream()
+                .filter(item -> item.getUser().getId().equals(userId))
+                .map(Item::getId)
+                .collect(Collectors.toList());
+
+        Map<Long, List<CommentDto>> comments = commentRepository.findAllByItem_IdIn(itemIds).stream()
+                .collect(Collectors.groupingBy(comment -> comment.getItem().getId(),
+                        Collectors.mapping(CommentMapper::toDto, Collectors.toList())));
+
+        Map<Long, BookingDtoForItem> prev = new HashMap<>();
+        Map<Long, BookingDtoForItem> next = new HashMap<>();
+        if (!ownItemIds.isEmpty()) {
+            List<Long> staleItemIds = new ArrayList<>();
+            for (ItemBookingSummary summary : summaryRepository.findAllById(ownItemIds)) {
+                if (summary.isStale(now)) {
+                    staleItemIds.add(summary.getItemId());
+                } else {
+                    prev.put(summary.getItemId(), ItemMapper.toBookingDtoForItem(summary.getLastBooking()));
+                    next.put(summary.getItemId(), ItemMapper.toBookingDtoForItem(summary.getNextBooking()));
+                }
+            }
+            if (!staleItemIds.isEmpty()) {
+                prev.putAll(groupByItemId(bookingRepository.findAllLastBookingsByItemIds(staleItemIds, EStatus.APPROVED, now)));
+                next.putAll(groupByItemId(bookingRepository.findAllNextBookingsByItemIds(staleItemIds, EStatus.APPROVED, now)));
+            }
+        }
+
+        List<ItemDto> result = new ArrayList<>(items.size());
+        for (Item item : items) {
+            result.add(ItemMapper.toDto(item,
+                    prev.get(item.getId()),
+                    next.get(item.getId()),
+                    comments.getOrDefault(item.getId(), new ArrayList<>())));
+        }
+        return result;
+    }
+
+    private Map<Long, BookingDtoForItem> groupByItemId(List<Booking> bookings) {
+        return bookings.stream()
+                .collect(Collectors.toMap(booking -> booking.getItem().getId(),
+                        BookingMapper::toBookingDtoForItem,
+                        (first, second) -> first));
     }
 }
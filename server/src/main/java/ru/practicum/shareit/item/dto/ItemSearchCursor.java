@@ -0,0 +1,48 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.data.domain.Slice;
+import ru.practicum.shareit.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in item search: the largest item id already returned. Pages are read in id order and ranked
+ * within the page, so the cursor never depends on the rank.
+ */
+@Getter
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ItemSearchCursor {
+    private static final ItemSearchCursor FIRST = new ItemSearchCursor(0L);
+
+    Long id;
+
+    public static ItemSearchCursor of(Slice<ItemSearchHit> hits) {
+        return new ItemSearchCursor(hits.getContent().stream()
+                .mapToLong(ItemSearchHit::getId)
+                .max()
+                .orElse(0L));
+    }
+
+    public static ItemSearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return new ItemSearchCursor(Long.parseLong(value));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,20 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.Value;
+
+/**
+ * An item matched by text search. Rank 0 is a name starting with the text, 1 a name containing it and 2 a
+ * description-only match.
+ */
+@Value
+public class ItemSearchHit {
+    Long id;
+    String name;
+    String description;
+    Boolean available;
+    Integer rank;
+
+    public ItemShortDto toItemShortDto() {
+        return new ItemShortDto(id, name, description, available);
+    }
+}
@@ -14,4 +14,8 @@ public class ItemShortDto {
     String description;
     Boolean available;
     Long requestId;
+
+    public ItemShortDto(Long id, String name, String description, Boolean available) {
+        this(id, name, description, available, null);
+    }
 }
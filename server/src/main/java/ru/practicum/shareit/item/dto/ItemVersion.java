@@ -0,0 +1,11 @@
+package ru.practicum.shareit.item.dto;
+
+public interface ItemVersion {
+    Long getVersion();
+
+    Long getOwnerId();
+
+    Long getCommentAuthorsVersion();
+
+    Long getStartedBookings();
+}
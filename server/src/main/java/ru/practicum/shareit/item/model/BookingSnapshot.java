@@ -0,0 +1,29 @@
+package ru.practicum.shareit.item.model;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import java.time.LocalDateTime;
+
+@Builder
+@Getter
+@Setter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@NoArgsConstructor
+@AllArgsConstructor
+@Embeddable
+public class BookingSnapshot {
+    @Column
+    Long bookingId;
+
+    @Column
+    Long bookerId;
+
+    @Column
+    LocalDateTime start;
+
+    @Column
+    LocalDateTime end;
+}
@@ -0,0 +1,46 @@
+package ru.practicum.shareit.item.model;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Builder
+@Getter
+@Setter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "item_booking_summaries")
+public class ItemBookingSummary {
+    @Id
+    @Column(name = "item_id")
+    Long itemId;
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "bookingId", column = @Column(name = "last_booking_id")),
+            @AttributeOverride(name = "bookerId", column = @Column(name = "last_booker_id")),
+            @AttributeOverride(name = "start", column = @Column(name = "last_start")),
+            @AttributeOverride(name = "end", column = @Column(name = "last_end"))
+    })
+    BookingSnapshot lastBooking;
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "bookingId", column = @Column(name = "next_booking_id")),
+            @AttributeOverride(name = "bookerId", column = @Column(name = "next_booker_id")),
+            @AttributeOverride(name = "start", column = @Column(name = "next_start")),
+            @AttributeOverride(name = "end", column = @Column(name = "next_end"))
+    })
+    BookingSnapshot nextBooking;
+
+    @Column(name = "refresh_at")
+    LocalDateTime refreshAt;
+
+    public boolean isStale(LocalDateTime now) {
+        return refreshAt != null && !refreshAt.isAfter(now);
+    }
+}
@@ -1,13 +1,23 @@
 package ru.practicum.shareit.item.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.item.model.Comment;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+    @EntityGraph(attributePaths = "user")
     List<Comment> findAllByItem_Id(Long itemId);
+
+    @Query(" select c from Comment c " +
+            "join fetch c.user " +
+            "where c.item.id in ?1 " +
+            "order by c.created asc")
+    List<Comment> findAllByItem_IdIn(Collection<Long> itemIds);
 }
@@ -1,24 +1,87 @@
 package ru.practicum.shareit.item.repository;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.booking.model.EStatus;
+import ru.practicum.shareit.item.dto.ItemSearchHit;
+import ru.practicum.shareit.item.dto.ItemShortDto;
+import ru.practicum.shareit.item.dto.ItemVersion;
 import ru.practicum.shareit.item.model.Item;
 
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ItemRepository extends JpaRepository<Item, Long> {
+public interface ItemRepository extends JpaRepository<Item, Long>, ItemVersionRepository {
+    String SEARCH_RANK = "(case when upper(i.name) like upper(concat(?1, '%')) then 0 " +
+            "when upper(i.name) like upper(concat('%', ?1, '%')) then 1 else 2 end)";
 
-    Page<Item> findAllByUserIdOrderByIdAsc(Long userId, Pageable pageable);
+    @Override
+    @EntityGraph(attributePaths = "user")
+    Optional<Item> findById(Long id);
 
-    @Query(" select i from Item i " +
-            "where upper(i.name) like upper(concat('%', ?1, '%')) " +
-            " or upper(i.description) like upper(concat('%', ?1, '%')) " +
-            "and i.available = true ")
-    Page<Item> findByText(String text, Pageable pageable);
+    @EntityGraph(attributePaths = {"user", "request", "request.user"})
+    @Query("select i from Item i where i.id = ?1")
+    Optional<Item> findWithRequestById(Long id);
 
-    List<Item> findAllByRequestId(Long id);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i from Item i where i.id = ?1")
+    Optional<Item> lockById(Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i from Item i where i.id in ?1 order by i.id asc")
+    List<Item> lockAllByIdIn(Collection<Long> ids);
+
+    Slice<Item> findAllByUserIdOrderByIdAsc(Long userId, Pageable pageable);
+
+    long countByUserId(Long userId);
+
+    @Query(" select new ru.practicum.shareit.item.dto.ItemShortDto(i.id, i.name, i.description, i.available) " +
+            "from Item i " +
+            "where i.available = true " +
+            "and (upper(i.name) like upper(concat('%', ?1, '%')) " +
+            " or upper(i.description) like upper(concat('%', ?1, '%'))) " +
+            "order by " + SEARCH_RANK + " asc, i.id asc")
+    Slice<ItemShortDto> findByText(String text, Pageable pageable);
+
+    // Keyset pages walk available items in id order from the cursor and stop after the page; the rank is only
+    // computed for the rows of the page.
+    @Query(" select new ru.practicum.shareit.item.dto.ItemSearchHit(i.id, i.name, i.description, i.available, " +
+            SEARCH_RANK + ") " +
+            "from Item i " +
+            "where i.available = true " +
+            "and i.id > ?2 " +
+            "and (upper(i.name) like upper(concat('%', ?1, '%')) " +
+            " or upper(i.description) like upper(concat('%', ?1, '%'))) " +
+            "order by i.id asc")
+    Slice<ItemSearchHit> findByTextAfterCursor(String text, Long id, Pageable pageable);
+
+    @Query(" select count(i) from Item i " +
+            "where i.available = true " +
+            "and (upper(i.name) like upper(concat('%', ?1, '%')) " +
+            " or upper(i.description) like upper(concat('%', ?1, '%')))")
+    long countByText(String text);
+
+    @Query(" select i.version as version, i.user.id as ownerId, " +
+            "(select coalesce(sum(u.version), 0) from Comment c join c.user u where c.item.id = i.id) " +
+            "as commentAuthorsVersion, " +
+            "(select count(b) from Booking b where b.item.id = i.id and b.status = ?2 and b.start < ?3) " +
+            "as startedBookings " +
+            "from Item i " +
+            "where i.id = ?1")
+    Optional<ItemVersion> findVersionById(Long id, EStatus status, LocalDateTime now);
+
+    @Query(" select new ru.practicum.shareit.item.dto.ItemShortDto(i.id, i.name, i.description, i.available, i.request.id) " +
+            "from Item i " +
+            "where i.request.id in ?1 " +
+            "order by i.id asc")
+    List<ItemShortDto> findAllByRequestIdIn(Collection<Long> requestIds);
 }
@@ -0,0 +1,19 @@
+package ru.practicum.shareit.item.repository;
+
+import lombok.RequiredArgsConstructor;
+import ru.practicum.shareit.item.model.Item;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+
+@RequiredArgsConstructor
+public class ItemVersionRepositoryImpl implements ItemVersionRepository {
+    private final EntityManager entityManager;
+
+    // Bumps the version through the persistence context, so a managed Item never holds a stale version.
+    // Hibernate increments at most once per transaction, which is all an ETag reader can observe.
+    @Override
+    public void incrementVersion(Item item) {
+        entityManager.lock(item, LockModeType.PESSIMISTIC_FORCE_INCREMENT);
+    }
+}
@@ -0,0 +1,36 @@
+package ru.practicum.shareit.pagination;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class Paging {
+    /**
+     * Totals behind the paged listings, cached for {@code shareit.pagination.total-count-ttl} so clients can show
+     * a page count without making every listing request count the whole result.
+     */
+    public static final String TOTAL_COUNTS_CACHE = "totalCounts";
+
+    public static <T> List<T> getContent(Slice<T> content,
+                                         PaginationProperties properties,
+                                         LongSupplier totalCount,
+                                         Function<Pageable, Slice<T>> loader) {
+        if (content.hasContent() || content.getNumber() == 0 || !properties.isClampToLastPage()) {
+            return content.getContent();
+        }
+        long total = totalCount.getAsLong();
+        if (total == 0) {
+            return content.getContent();
+        }
+        int size = content.getSize();
+        int lastPage = (int) ((total - 1) / size);
+        return loader.apply(PageRequest.of(lastPage, size)).getContent();
+    }
+}
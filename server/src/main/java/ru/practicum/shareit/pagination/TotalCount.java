@@ -0,0 +1,13 @@
+package ru.practicum.shareit.pagination;
+
+import lombok.Value;
+
+/**
+ * The total behind a paged listing, returned by the {@code /count} endpoints. Totals are cached for
+ * {@code shareit.pagination.total-count-ttl} and writes do not evict them, so a total can lag new data, and the
+ * time-based booking states, by up to that long.
+ */
+@Value
+public class TotalCount {
+    long total;
+}
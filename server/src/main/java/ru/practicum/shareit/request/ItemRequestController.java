@@ -1,10 +1,13 @@
 package ru.practicum.shareit.request;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.etag.ETags;
+import ru.practicum.shareit.pagination.TotalCount;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestDtoForClient;
 import ru.practicum.shareit.request.dto.SimpleItemRequestDto;
@@ -39,9 +42,19 @@ public class ItemRequestController {
         return ResponseEntity.ok(service.getAll(userId, from, size));
     }
 
+    @GetMapping("/all/count")
+    public ResponseEntity<TotalCount> countAll(@RequestHeader(name = "X-Sharer-User-Id") Long userId) {
+        return ResponseEntity.ok(new TotalCount(service.countAll(userId)));
+    }
+
     @GetMapping("/{requestId}")
     public ResponseEntity<ItemRequestDtoForClient> getById(@PathVariable Long requestId,
-                                                           @RequestHeader(name = "X-Sharer-User-Id") Long userId) {
-        return ResponseEntity.ok(service.getById(requestId, userId));
+                                                           @RequestHeader(name = "X-Sharer-User-Id") Long userId,
+                                                           @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = service.getETag(requestId, userId);
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(service.getById(requestId, userId));
     }
 }
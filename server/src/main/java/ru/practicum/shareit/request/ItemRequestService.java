@@ -1,17 +1,19 @@
 package ru.practicum.shareit.request;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.etag.ETags;
 import ru.practicum.shareit.exception.NotFoundException;
-import ru.practicum.shareit.item.ItemMapper;
 import ru.practicum.shareit.item.dto.ItemShortDto;
-import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.pagination.PaginationProperties;
+import ru.practicum.shareit.pagination.Paging;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestDtoForClient;
+import ru.practicum.shareit.request.dto.ItemRequestVersion;
 import ru.practicum.shareit.request.dto.SimpleItemRequestDto;
 import ru.practicum.shareit.request.mapper.ItemRequestMapper;
 import ru.practicum.shareit.request.model.ItemRequest;
@@ -19,7 +21,10 @@ import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.UserService;
 import ru.practicum.shareit.user.model.User;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,7 +33,9 @@ public class ItemRequestService {
     private final ItemRequestRepository itemRequestRepository;
     private final ItemRepository itemRepository;
     private final UserService userService;
+    private final PaginationProperties paginationProperties;
 
+    @Transactional
     public SimpleItemRequestDto create(Long userId, ItemRequestDto dto) {
         User requester = userService.getById(userId);
         ItemRequest request = itemRequestRepository.save(ItemRequestMapper.toEntity(dto, requester));
@@ -36,53 +43,67 @@ public class ItemRequestService {
         return ItemRequestMapper.toSimpleDto(request);
     }
 
+    @Transactional(readOnly = true)
     public List<ItemRequestDtoForClient> getAllByOwnerId(Long ownerId) {
-        userService.getById(ownerId);
+        userService.checkExists(ownerId);
         List<ItemRequest> itemRequests = itemRequestRepository.findAllByUserIdOrderByCreatedDesc(ownerId);
+        Map<Long, List<ItemShortDto>> items = getItemsByRequestIds(itemRequests.stream()
+                .map(ItemRequest::getId)
+                .collect(Collectors.toList()));
 
         return itemRequests.stream()
-                .map(itemRequest -> ItemRequestMapper.toDto(itemRequest, getItemFromRequest(itemRequest.getId())))
+                .map(itemRequest -> ItemRequestMapper.toDto(itemRequest,
+                        items.getOrDefault(itemRequest.getId(), Collections.emptyList())))
                 .collect(Collectors.toList());
     }
 
-    private List<ItemShortDto> getItemFromRequest(Long requestId) {
-        List<Item> items = itemRepository.findAllByRequestId(requestId);
+    private Map<Long, List<ItemShortDto>> getItemsByRequestIds(Collection<Long> requestIds) {
+        if (requestIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
 
-        return items.stream()
-                .map(item -> {
-                    ItemShortDto dto = ItemMapper.toShortDto(item);
-                    dto.setRequestId(requestId);
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        return itemRepository.findAllByRequestIdIn(requestIds).stream()
+                .collect(Collectors.groupingBy(ItemShortDto::getRequestId));
     }
 
+    @Transactional(readOnly = true)
     public List<ItemRequestDtoForClient> getAll(Long userId, Integer from, Integer size) {
-        Page<ItemRequest> content = itemRequestRepository.findAllAnotherRequest(userId,
-                PageRequest.of(from, size));
+        List<ItemRequestDtoForClient> content = Paging.getContent(
+                itemRequestRepository.findAllAnotherRequest(userId, PageRequest.of(from, size)),
+                paginationProperties,
+                () -> itemRequestRepository.countAnotherRequest(userId),
+                page -> itemRequestRepository.findAllAnotherRequest(userId, page));
+
+        Map<Long, List<ItemShortDto>> items = getItemsByRequestIds(content.stream()
+                .map(ItemRequestDtoForClient::getId)
+                .collect(Collectors.toList()));
+
+        content.forEach(request -> request.setItems(items.getOrDefault(request.getId(), Collections.emptyList())));
+        return content;
+    }
 
-        if (content.isEmpty() && content.getTotalPages() != 0) {
-            content = itemRequestRepository.findAllAnotherRequest(userId, getLastPage(content));
-        }
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = Paging.TOTAL_COUNTS_CACHE, key = "{'requests', #userId}")
+    public long countAll(Long userId) {
+        return itemRequestRepository.countAnotherRequest(userId);
+    }
 
-        return content.getContent().stream()
-                .map(itemRequest -> ItemRequestMapper.toDto(itemRequest, getItemFromRequest(itemRequest.getId())))
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public String getETag(Long id, Long userId) {
+        userService.checkExists(userId);
+        ItemRequestVersion version = itemRequestRepository.findVersionById(id)
+                .orElseThrow(() -> new NotFoundException("Request not found"));
+
+        return ETags.of(id, version.getVersion(), version.getItemCount(), version.getItemVersionSum());
     }
 
+    @Transactional(readOnly = true)
     public ItemRequestDtoForClient getById(Long id, Long userId) {
-        userService.getById(userId);
+        userService.checkExists(userId);
 
         return ItemRequestMapper.toDto(
                 itemRequestRepository.findById(id)
                         .orElseThrow(() -> new NotFoundException("Request not found")),
-                getItemFromRequest(id));
-    }
-
-    private Pageable getLastPage(Page<ItemRequest> content) {
-        int from = content.getTotalPages() - 1;
-        int size = content.getSize();
-
-        return PageRequest.of(from, size);
+                getItemsByRequestIds(List.of(id)).getOrDefault(id, Collections.emptyList()));
     }
 }
@@ -17,4 +17,8 @@ public class ItemRequestDtoForClient {
     String description;
     LocalDateTime created;
     List<ItemShortDto> items;
+
+    public ItemRequestDtoForClient(Long id, String description, LocalDateTime created) {
+        this(id, description, created, null);
+    }
 }
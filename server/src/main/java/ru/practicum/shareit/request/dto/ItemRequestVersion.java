@@ -0,0 +1,9 @@
+package ru.practicum.shareit.request.dto;
+
+public interface ItemRequestVersion {
+    Long getVersion();
+
+    Long getItemCount();
+
+    Long getItemVersionSum();
+}
@@ -1,21 +1,36 @@
 package ru.practicum.shareit.request.repository;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.request.dto.ItemRequestDtoForClient;
+import ru.practicum.shareit.request.dto.ItemRequestVersion;
 import ru.practicum.shareit.request.model.ItemRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
 
     List<ItemRequest> findAllByUserIdOrderByCreatedDesc(Long id);
 
-    @Query("select ir from ItemRequest ir " +
+    @Query("select r.version as version, " +
+            "(select count(i) from Item i where i.request.id = r.id) as itemCount, " +
+            "(select coalesce(sum(i.version), 0) from Item i where i.request.id = r.id) as itemVersionSum " +
+            "from ItemRequest r " +
+            "where r.id = ?1")
+    Optional<ItemRequestVersion> findVersionById(Long id);
+
+    @Query("select new ru.practicum.shareit.request.dto.ItemRequestDtoForClient(ir.id, ir.description, ir.created) " +
+            "from ItemRequest ir " +
             "where ir.user.id <> ?1 " +
             "order by ir.created desc")
-    Page<ItemRequest> findAllAnotherRequest(Long id, Pageable pageable);
+    Slice<ItemRequestDtoForClient> findAllAnotherRequest(Long id, Pageable pageable);
+
+    @Query("select count(ir) from ItemRequest ir " +
+            "where ir.user.id <> ?1")
+    long countAnotherRequest(Long id);
 }
@@ -0,0 +1,29 @@
+package ru.practicum.shareit.user;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.model.User;
+
+@Component
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserMapper {
+    public static User toEntity(UserDto dto) {
+        return User.builder()
+                .id(dto.getId())
+                .name(dto.getName())
+                .email(dto.getEmail())
+                .version(dto.getVersion())
+                .build();
+    }
+
+    public static void patch(User source, User target) {
+        if (source.getName() != null) {
+            target.setName(source.getName());
+        }
+        if (source.getEmail() != null) {
+            target.setEmail(source.getEmail());
+        }
+    }
+}
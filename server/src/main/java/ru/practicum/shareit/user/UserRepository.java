@@ -1,9 +1,23 @@
 package ru.practicum.shareit.user;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
 
+import java.util.Optional;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    @Override
+    @Cacheable(cacheNames = UserService.USER_IDS_CACHE, unless = "!#result")
+    boolean existsById(Long id);
+
+    @Cacheable(cacheNames = UserService.USERS_CACHE, unless = "#result == null")
+    @Query("select new ru.practicum.shareit.user.dto.UserDto(u.id, u.name, u.email, u.version) " +
+            "from User u where u.id = ?1")
+    Optional<UserDto> findDtoById(Long id);
 }
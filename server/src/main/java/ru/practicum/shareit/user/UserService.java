@@ -1,21 +1,20 @@
 package ru.practicum.shareit.user;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.BeanUtils;
-import org.springframework.beans.BeanWrapper;
-import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.user.model.User;
 
-import java.beans.FeatureDescriptor;
 import java.util.List;
-import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
+    public static final String USERS_CACHE = "users";
+    public static final String USER_IDS_CACHE = "userIds";
+
     private final UserRepository repository;
 
     @Transactional
@@ -25,36 +24,36 @@ public class UserService {
 
 
     @Transactional
+    @CacheEvict(cacheNames = USERS_CACHE, key = "#id")
     public User update(Long id, User newUser) {
         return repository.findById(id).map(model -> {
-            String[] nulls = getNullPropertyNames(newUser);
-
-            BeanUtils.copyProperties(newUser, model, nulls);
+            UserMapper.patch(newUser, model);
             return repository.save(model);
         }).orElseThrow(() -> new NotFoundException("Entity not found"));
     }
 
-    private String[] getNullPropertyNames(Object source) {
-        final BeanWrapper wrappedSource = new BeanWrapperImpl(source);
-        return Stream.of(wrappedSource.getPropertyDescriptors())
-                .map(FeatureDescriptor::getName)
-                .filter(propertyName -> wrappedSource.getPropertyValue(propertyName) == null)
-                .toArray(String[]::new);
-    }
-
 
-    @Transactional
+    @Transactional(readOnly = true)
     public User getById(Long id) {
-        return repository.findById(id)
+        return repository.findDtoById(id)
+                .map(UserMapper::toEntity)
                 .orElseThrow(() -> new NotFoundException("Entity not found"));
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
+    public void checkExists(Long id) {
+        if (!repository.existsById(id)) {
+            throw new NotFoundException("Entity not found");
+        }
+    }
+
+    @Transactional(readOnly = true)
     public List<User> getAll() {
         return repository.findAll();
     }
 
     @Transactional
+    @CacheEvict(cacheNames = {USERS_CACHE, USER_IDS_CACHE})
     public void deleteById(Long id) {
         repository.deleteById(id);
     }
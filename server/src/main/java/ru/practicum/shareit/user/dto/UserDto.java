@@ -0,0 +1,11 @@
+package ru.practicum.shareit.user.dto;
+
+import lombok.Value;
+
+@Value
+public class UserDto {
+    Long id;
+    String name;
+    String email;
+    Long version;
+}
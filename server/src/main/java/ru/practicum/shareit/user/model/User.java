@@ -1,6 +1,8 @@
 package ru.practicum.shareit.user.model;
 
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
 
@@ -14,6 +16,7 @@ import javax.persistence.*;
 @AllArgsConstructor
 @Entity
 @Table(name = "users")
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class User {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -24,4 +27,9 @@ public class User {
 
     @Column(nullable = false, unique = true)
     String email;
+
+    @Version
+    @JsonIgnore
+    @Column(nullable = false)
+    Long version;
 }
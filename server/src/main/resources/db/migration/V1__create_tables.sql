@@ -1,5 +1,3 @@
-DROP TABLE IF EXISTS users, items, bookings, comments, requests CASCADE;
-
 CREATE TABLE users
 (
     id    bigint generated by default as identity primary key,
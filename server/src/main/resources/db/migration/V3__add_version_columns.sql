@@ -0,0 +1,8 @@
+ALTER TABLE users
+    ADD COLUMN IF NOT EXISTS version bigint not null default 0;
+ALTER TABLE items
+    ADD COLUMN IF NOT EXISTS version bigint not null default 0;
+ALTER TABLE bookings
+    ADD COLUMN IF NOT EXISTS version bigint not null default 0;
+ALTER TABLE requests
+    ADD COLUMN IF NOT EXISTS version bigint not null default 0;
@@ -0,0 +1,20 @@
+CREATE TABLE IF NOT EXISTS item_booking_summaries
+(
+    item_id         bigint primary key references items (id),
+    last_booking_id bigint,
+    last_booker_id  bigint,
+    last_start      timestamp,
+    last_end        timestamp,
+    next_booking_id bigint,
+    next_booker_id  bigint,
+    next_start      timestamp,
+    next_end        timestamp,
+    refresh_at      timestamp
+);
+
+CREATE INDEX IF NOT EXISTS item_booking_summaries_refresh_idx ON item_booking_summaries (refresh_at);
+
+INSERT INTO item_booking_summaries (item_id, refresh_at)
+SELECT DISTINCT item_id, TIMESTAMP '1970-01-01 00:00:00'
+FROM bookings
+WHERE status = 'APPROVED';
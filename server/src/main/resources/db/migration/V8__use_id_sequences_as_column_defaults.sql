@@ -0,0 +1,8 @@
+ALTER TABLE items
+    ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE items
+    ALTER COLUMN id SET DEFAULT nextval('items_seq');
+ALTER TABLE bookings
+    ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE bookings
+    ALTER COLUMN id SET DEFAULT nextval('bookings_seq');
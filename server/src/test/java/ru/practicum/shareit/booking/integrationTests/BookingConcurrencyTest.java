@@ -0,0 +1,102 @@
+package ru.practicum.shareit.booking.integrationTests;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.TestValueBuilder;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.EStatus;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@SpringBootTest(
+        properties = "db.name=test",
+        webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class BookingConcurrencyTest {
+    private static final int THREADS = 16;
+    private static final int BOOKINGS = 100;
+    private static final int ATTEMPTS = 2_000;
+
+    private final UserService userService;
+    private final ItemService itemService;
+    private final BookingService bookingService;
+    private final BookingRepository bookingRepository;
+
+    private User owner;
+    private Long itemId;
+    private final List<Long> bookingIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        long suffix = System.nanoTime();
+        owner = userService.create(TestValueBuilder.createCustomUserWithoutId("owner" + suffix + "@user.com", "Owner"));
+        User booker = userService.create(TestValueBuilder.createCustomUserWithoutId("booker" + suffix + "@user.com",
+                "Booker"));
+        itemId = itemService.create(owner.getId(),
+                TestValueBuilder.createAvailableItemShortDto("Item", "Item desc")).getId();
+
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < BOOKINGS; i++) {
+            BookingDto dto = BookingDto.builder()
+                    .itemId(itemId)
+                    .start(start.plusMinutes(i))
+                    .end(start.plusHours(3).plusMinutes(i))
+                    .build();
+            bookingIds.add(bookingService.save(dto, booker.getId()).getId());
+        }
+    }
+
+    @Test
+    void shouldApproveOnlyOneOfOverlappingBookingsUnderContention() throws InterruptedException {
+        AtomicInteger approved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        for (int i = 0; i < ATTEMPTS; i++) {
+            Long bookingId = bookingIds.get(i % BOOKINGS);
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    bookingService.update(bookingId, true, owner.getId());
+                    approved.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (RuntimeException e) {
+                    rejected.incrementAndGet();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(2, TimeUnit.MINUTES));
+
+        List<Booking> bookings = bookingRepository.findAllById(bookingIds);
+        long approvedBookings = bookings.stream()
+                .filter(booking -> booking.getStatus() == EStatus.APPROVED)
+                .count();
+
+        Assertions.assertEquals(ATTEMPTS, approved.get() + rejected.get());
+        Assertions.assertEquals(1, approved.get());
+        Assertions.assertEquals(1, approvedBookings);
+    }
+}
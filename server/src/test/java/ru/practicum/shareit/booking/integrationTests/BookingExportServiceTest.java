@@ -0,0 +1,98 @@
+package ru.practicum.shareit.booking.integrationTests;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.TestValueBuilder;
+import ru.practicum.shareit.booking.BookingExportService;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.model.User;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Transactional
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@SpringBootTest(
+        properties = "db.name=test",
+        webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class BookingExportServiceTest {
+    private final UserService userService;
+    private final ItemService itemService;
+    private final BookingService bookingService;
+    private final BookingExportService exportService;
+    private final ObjectMapper mapper;
+
+    private User owner;
+    private User booker;
+    private final List<Long> bookingIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        owner = userService.create(TestValueBuilder.createCustomUserWithoutId("owner@user.com", "Owner"));
+        booker = userService.create(TestValueBuilder.createCustomUserWithoutId("booker@user.com", "Booker"));
+        Long itemId = itemService.create(owner.getId(),
+                TestValueBuilder.createAvailableItemShortDto("Item", "Item desc")).getId();
+
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < 3; i++) {
+            BookingDto dto = BookingDto.builder()
+                    .itemId(itemId)
+                    .start(start.plusDays(i))
+                    .end(start.plusDays(i).plusHours(1))
+                    .build();
+            bookingIds.add(0, bookingService.save(dto, booker.getId()).getId());
+        }
+    }
+
+    @Test
+    void shouldWriteBookerBookingsAsNdjsonNewestFirst() {
+        List<JsonNode> lines = export(booker.getId(), false);
+
+        Assertions.assertEquals(3, lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            Assertions.assertEquals(bookingIds.get(i), lines.get(i).get("id").asLong());
+            Assertions.assertEquals(booker.getId(), lines.get(i).get("booker").get("id").asLong());
+            Assertions.assertEquals("Item", lines.get(i).get("item").get("name").asText());
+        }
+    }
+
+    @Test
+    void shouldWriteOwnerBookings() {
+        Assertions.assertEquals(3, export(owner.getId(), true).size());
+        Assertions.assertTrue(export(owner.getId(), false).isEmpty());
+    }
+
+    @Test
+    void shouldThrowNotFoundExceptionWhenUserAbsent() {
+        Assertions.assertThrows(NotFoundException.class, () -> exportService.export(999L, false));
+    }
+
+    @SneakyThrows
+    private List<JsonNode> export(Long userId, boolean owner) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(userId, owner).writeTo(out);
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isEmpty()) {
+                lines.add(mapper.readTree(line));
+            }
+        }
+        return lines;
+    }
+}
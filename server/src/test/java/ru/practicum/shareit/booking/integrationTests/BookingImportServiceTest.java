@@ -0,0 +1,119 @@
+package ru.practicum.shareit.booking.integrationTests;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.TestValueBuilder;
+import ru.practicum.shareit.booking.BookingImportService;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.EStatus;
+import ru.practicum.shareit.bulk.ImportError;
+import ru.practicum.shareit.bulk.ImportFormat;
+import ru.practicum.shareit.bulk.ImportReport;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.model.ItemBookingSummary;
+import ru.practicum.shareit.item.repository.ItemBookingSummaryRepository;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.model.User;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Transactional
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@SpringBootTest(
+        properties = "db.name=test",
+        webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class BookingImportServiceTest {
+    private final UserService userService;
+    private final ItemService itemService;
+    private final BookingImportService importService;
+    private final BookingRepository bookingRepository;
+    private final ItemBookingSummaryRepository summaryRepository;
+
+    private User owner;
+    private User booker;
+    private Long itemId;
+    private Long foreignItemId;
+
+    @BeforeEach
+    void setUp() {
+        owner = userService.create(TestValueBuilder.createCustomUserWithoutId("owner@user.com", "Owner"));
+        booker = userService.create(TestValueBuilder.createCustomUserWithoutId("booker@user.com", "Booker"));
+        itemId = itemService.create(owner.getId(),
+                TestValueBuilder.createAvailableItemShortDto("Item", "Item desc")).getId();
+        foreignItemId = itemService.create(booker.getId(),
+                TestValueBuilder.createAvailableItemShortDto("Other", "Other desc")).getId();
+    }
+
+    @Test
+    void shouldImportValidBookingsAndRefreshItemSummary() {
+        LocalDateTime past = LocalDateTime.now().minusDays(10).withNano(0);
+        LocalDateTime future = LocalDateTime.now().plusDays(10).withNano(0);
+        String body = String.join("\n",
+                record(itemId, booker.getId(), past, past.plusDays(2), "APPROVED"),
+                record(itemId, booker.getId(), past.plusDays(1), past.plusDays(3), "APPROVED"),
+                record(itemId, owner.getId(), future, future.plusDays(1), "WAITING"),
+                record(foreignItemId, owner.getId(), future, future.plusDays(1), "WAITING"),
+                record(itemId, booker.getId(), future, future.plusDays(1), null));
+
+        ImportReport report = importService.importBookings(owner.getId(), null, ImportFormat.NDJSON_VALUE,
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        Assertions.assertEquals(5, report.getProcessed());
+        Assertions.assertEquals(2, report.getImported());
+        Assertions.assertEquals(List.of(2L, 3L, 4L), report.getErrors().stream()
+                .map(ImportError::getLine)
+                .collect(Collectors.toList()));
+        Assertions.assertEquals("Item is already booked for these dates", report.getErrors().get(0).getMessage());
+        Assertions.assertEquals("You can't book that", report.getErrors().get(1).getMessage());
+        Assertions.assertEquals("Insufficient rights to execute the operation",
+                report.getErrors().get(2).getMessage());
+
+        List<Booking> bookings = bookingRepository.findAllByBookerIdOrderByStartDesc(booker.getId(),
+                PageRequest.of(0, 10)).getContent();
+        Assertions.assertEquals(2, bookings.size());
+        Assertions.assertEquals(EStatus.WAITING, bookings.get(0).getStatus());
+        Assertions.assertEquals(EStatus.APPROVED, bookings.get(1).getStatus());
+
+        ItemBookingSummary summary = summaryRepository.findById(itemId).orElseThrow();
+        Assertions.assertEquals(bookings.get(1).getId(), summary.getLastBooking().getBookingId());
+        Assertions.assertNull(summary.getNextBooking());
+    }
+
+    @Test
+    void shouldRejectApprovedBookingsOverlappingStoredOnes() {
+        LocalDateTime start = LocalDateTime.now().plusDays(10).withNano(0);
+        importService.importBookings(owner.getId(), null, ImportFormat.NDJSON_VALUE, stream(
+                record(itemId, booker.getId(), start, start.plusDays(2), "APPROVED")));
+
+        ImportReport report = importService.importBookings(owner.getId(), null, ImportFormat.NDJSON_VALUE, stream(
+                String.join("\n",
+                        record(itemId, booker.getId(), start.plusDays(1), start.plusDays(3), "APPROVED"),
+                        record(itemId, booker.getId(), start.plusDays(2), start.plusDays(4), "APPROVED"),
+                        record(itemId, booker.getId(), start.plusDays(1), start.plusDays(3), "REJECTED"))));
+
+        Assertions.assertEquals(2, report.getImported());
+        Assertions.assertEquals(1, report.getErrors().size());
+        Assertions.assertEquals(1L, report.getErrors().get(0).getLine());
+        Assertions.assertEquals("Item is already booked for these dates", report.getErrors().get(0).getMessage());
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String record(Long itemId, Long bookerId, LocalDateTime start, LocalDateTime end, String status) {
+        return String.format("{\"itemId\":%d,\"bookerId\":%d,\"start\":\"%s\",\"end\":\"%s\",\"status\":%s}",
+                itemId, bookerId, start, end, status == null ? "null" : "\"" + status + "\"");
+    }
+}
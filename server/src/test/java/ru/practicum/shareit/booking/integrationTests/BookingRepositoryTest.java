@@ -5,8 +5,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import ru.practicum.shareit.TestValueBuilder;
 import ru.practicum.shareit.booking.BookingRepository;
 import ru.practicum.shareit.booking.model.Booking;
@@ -17,6 +17,8 @@ import ru.practicum.shareit.user.UserRepository;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 @DataJpaTest
 public class BookingRepositoryTest {
@@ -56,10 +58,46 @@ public class BookingRepositoryTest {
 
         bookingRepository.save(booking);
 
-        Page<Booking> bookings = bookingRepository.findAllCurrentBookingsByUserId(user.getId(),
+        Slice<Booking> bookings = bookingRepository.findAllCurrentBookingsByUserId(user.getId(),
                 LocalDateTime.now(),
                 PageRequest.of(0, 2));
 
-        Assertions.assertEquals(1, bookings.getTotalElements());
+        Assertions.assertEquals(1, bookings.getNumberOfElements());
+    }
+
+    @Test
+    void findAllByBookerIdAfterCursor() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        Booking first = bookingRepository.save(Booking.builder()
+                .booker(user)
+                .item(item)
+                .start(start)
+                .end(start.plusHours(1))
+                .status(EStatus.WAITING)
+                .build());
+        Booking second = bookingRepository.save(Booking.builder()
+                .booker(user)
+                .item(item)
+                .start(start)
+                .end(start.plusHours(2))
+                .status(EStatus.WAITING)
+                .build());
+
+        Slice<Booking> firstSlice = bookingRepository.findAllByBookerIdAfterCursor(user.getId(),
+                LocalDateTime.of(9999, 12, 31, 23, 59, 59),
+                Long.MAX_VALUE,
+                PageRequest.of(0, 1));
+        List<Booking> content = firstSlice.getContent();
+
+        Assertions.assertTrue(firstSlice.hasNext());
+        Assertions.assertEquals(second.getId(), content.get(0).getId());
+
+        Slice<Booking> secondSlice = bookingRepository.findAllByBookerIdAfterCursor(user.getId(),
+                content.get(0).getStart(),
+                content.get(0).getId(),
+                PageRequest.of(0, 1));
+
+        Assertions.assertFalse(secondSlice.hasNext());
+        Assertions.assertEquals(first.getId(), secondSlice.getContent().get(0).getId());
     }
 }
@@ -7,20 +7,26 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.TestValueBuilder;
+import ru.practicum.shareit.booking.BookingRepository;
 import ru.practicum.shareit.booking.BookingService;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.EState;
 import ru.practicum.shareit.booking.model.EStatus;
 import ru.practicum.shareit.exception.BadRequestException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.pagination.Paging;
 import ru.practicum.shareit.user.UserService;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Transactional
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
@@ -32,6 +38,8 @@ public class BookingServiceTest {
     private final ItemRepository itemRepository;
     private final UserService userService;
     private final BookingService bookingService;
+    private final BookingRepository bookingRepository;
+    private final CacheManager cacheManager;
     static User firstUser;
     static User secondUser;
     static Item item;
@@ -180,5 +188,77 @@ public class BookingServiceTest {
 
             Assertions.assertNotNull(update);
         }
+
+        @Test
+        void shouldChangeETagWhenBookingApproved() {
+            User user1 = userService.create(firstUser);
+            User user2 = userService.create(secondUser);
+            item.setUser(user1);
+            Item createdItem = itemRepository.save(item);
+            bookingDto.setItemId(createdItem.getId());
+
+            Booking save = bookingService.save(bookingDto, user2.getId());
+            String before = bookingService.getETag(save.getId(), user2.getId());
+
+            Assertions.assertEquals(before, bookingService.getETag(save.getId(), user1.getId()));
+
+            bookingService.update(save.getId(), true, user1.getId());
+
+            Assertions.assertNotEquals(before, bookingService.getETag(save.getId(), user2.getId()));
+        }
+
+        @Test
+        void shouldThrowNotFoundExceptionForETagWhenUserIsStranger() {
+            User user1 = userService.create(firstUser);
+            User user2 = userService.create(secondUser);
+            item.setUser(user1);
+            Item createdItem = itemRepository.save(item);
+            bookingDto.setItemId(createdItem.getId());
+
+            Booking save = bookingService.save(bookingDto, user2.getId());
+
+            Assertions.assertThrows(NotFoundException.class, () -> bookingService.getETag(save.getId(), 999L));
+        }
+    }
+
+    // Cache writes are deferred to commit, so these tests run without the rolled-back test transaction.
+    @Nested
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    class Count {
+        @Test
+        void shouldServeCachedCountUntilEvicted() {
+            long suffix = System.nanoTime();
+            User owner = userService.create(TestValueBuilder.createCustomUserWithoutId("owner" + suffix + "@user.com",
+                    "Owner"));
+            User booker = userService.create(TestValueBuilder.createCustomUserWithoutId("booker" + suffix + "@user.com",
+                    "Booker"));
+            Item countedItem = TestValueBuilder.createItemWithId();
+            countedItem.setId(null);
+            countedItem.setUser(owner);
+            Long itemId = itemRepository.save(countedItem).getId();
+            BookingDto dto = TestValueBuilder.createBookingDto();
+            dto.setItemId(itemId);
+            Long firstId = bookingService.save(dto, booker.getId()).getId();
+
+            Assertions.assertEquals(1, bookingService.count(booker.getId(), EState.ALL, false));
+            Assertions.assertEquals(1, bookingService.count(owner.getId(), EState.WAITING, true));
+            Assertions.assertEquals(0, bookingService.count(owner.getId(), EState.ALL, false));
+
+            Long secondId = bookingService.save(dto, booker.getId()).getId();
+
+            Assertions.assertEquals(1, bookingService.count(booker.getId(), EState.ALL, false));
+            cacheManager.getCache(Paging.TOTAL_COUNTS_CACHE).clear();
+            Assertions.assertEquals(2, bookingService.count(booker.getId(), EState.ALL, false));
+
+            bookingRepository.deleteAllById(List.of(firstId, secondId));
+            itemRepository.deleteById(itemId);
+            userService.deleteById(booker.getId());
+            userService.deleteById(owner.getId());
+        }
+
+        @Test
+        void shouldThrowNotFoundExceptionWhenUserAbsent() {
+            Assertions.assertThrows(NotFoundException.class, () -> bookingService.count(99L, EState.ALL, false));
+        }
     }
 }
@@ -0,0 +1,112 @@
+package ru.practicum.shareit.booking.integrationTests;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.TestValueBuilder;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.EStatus;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class BookingStatementCountTest {
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private Statistics statistics;
+    private User owner;
+    private User booker;
+
+    @BeforeEach
+    void setup() {
+        owner = entityManager.persist(TestValueBuilder.createCustomUserWithoutId("owner@user.com", "Owner"));
+        booker = entityManager.persist(TestValueBuilder.createCustomUserWithoutId("booker@user.com", "Booker"));
+        ItemRequest request = TestValueBuilder.createItemRequest(booker);
+        request.setId(null);
+        entityManager.persist(request);
+
+        for (int i = 0; i < 5; i++) {
+            Item item = TestValueBuilder.createItemWithId();
+            item.setId(null);
+            item.setUser(owner);
+            item.setRequest(request);
+            entityManager.persist(item);
+
+            entityManager.persist(Booking.builder()
+                    .item(item)
+                    .booker(booker)
+                    .start(LocalDateTime.now().plusDays(i + 1))
+                    .end(LocalDateTime.now().plusDays(i + 2))
+                    .status(EStatus.WAITING)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void bookerPageShouldBeLoadedWithOneStatement() {
+        List<Booking> bookings = bookingRepository.findAllByBookerIdOrderByStartDesc(booker.getId(),
+                PageRequest.of(0, 10)).getContent();
+
+        touch(bookings);
+
+        Assertions.assertEquals(5, bookings.size());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void ownerPageShouldBeLoadedWithOneStatement() {
+        List<Booking> bookings = bookingRepository.findAllByItemUserIdAndStatusOrderByStartDesc(owner.getId(),
+                EStatus.WAITING,
+                PageRequest.of(0, 10)).getContent();
+
+        touch(bookings);
+
+        Assertions.assertEquals(5, bookings.size());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void bookingShouldBeLoadedByIdWithOneStatement() {
+        Long id = bookingRepository.findAllByBookerIdOrderByStartDesc(booker.getId(), PageRequest.of(0, 1))
+                .getContent().get(0).getId();
+        entityManager.clear();
+        statistics.clear();
+
+        Booking booking = bookingRepository.findById(id).orElseThrow();
+
+        touch(List.of(booking));
+
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private static void touch(List<Booking> bookings) {
+        for (Booking booking : bookings) {
+            Assertions.assertNotNull(booking.getBooker().getName());
+            Assertions.assertNotNull(booking.getItem().getUser().getName());
+            Assertions.assertNotNull(booking.getItem().getRequest().getUser().getName());
+        }
+    }
+}
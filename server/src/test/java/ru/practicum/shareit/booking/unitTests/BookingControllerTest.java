@@ -9,19 +9,29 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import ru.practicum.shareit.TestValueBuilder;
 import ru.practicum.shareit.booking.BookingController;
+import ru.practicum.shareit.booking.BookingExportService;
+import ru.practicum.shareit.booking.BookingImportService;
 import ru.practicum.shareit.booking.BookingService;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.EState;
+import ru.practicum.shareit.bulk.ImportFormat;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +40,12 @@ public class BookingControllerTest {
     @Mock
     private BookingService service;
 
+    @Mock
+    private BookingImportService importService;
+
+    @Mock
+    private BookingExportService exportService;
+
     @InjectMocks
     private BookingController controller;
 
@@ -55,6 +71,55 @@ public class BookingControllerTest {
                 .build();
     }
 
+    @Nested
+    class Export {
+        @SneakyThrows
+        @Test
+        void should200_WhenOwnerExportsBookings() {
+            when(exportService.export(1L, true))
+                    .thenReturn(out -> out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8)));
+
+            MvcResult result = mvc.perform(get("/bookings/owner/export")
+                            .header("X-Sharer-User-Id", 1))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CONTENT_TYPE, ImportFormat.NDJSON_VALUE))
+                    .andExpect(content().string("{\"id\":1}\n"));
+        }
+    }
+
+    @Nested
+    class Count {
+        @SneakyThrows
+        @Test
+        void should200_WhenBookerCountsBookings() {
+            when(service.count(1L, EState.WAITING, false))
+                    .thenReturn(3L);
+
+            mvc.perform(get("/bookings/count")
+                            .header("X-Sharer-User-Id", 1)
+                            .param("state", "WAITING"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().json("{\"total\":3}"));
+        }
+
+        @SneakyThrows
+        @Test
+        void should200_WhenOwnerCountsBookings() {
+            when(service.count(1L, EState.ALL, true))
+                    .thenReturn(5L);
+
+            mvc.perform(get("/bookings/owner/count")
+                            .header("X-Sharer-User-Id", 1)
+                            .param("state", "ALL"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().json("{\"total\":5}"));
+        }
+    }
+
     @Nested
     class Create {
         @SneakyThrows
@@ -102,6 +167,8 @@ public class BookingControllerTest {
         @SneakyThrows
         @Test
         void should201_WhenInputIsValid() {
+            when(service.getETag(Mockito.anyLong(), Mockito.anyLong()))
+                    .thenReturn("\"etag\"");
             when(service.getById(Mockito.anyLong(), Mockito.anyLong()))
                     .thenReturn(booking);
 
@@ -115,6 +182,22 @@ public class BookingControllerTest {
 
             Assertions.assertEquals(mapper.writeValueAsString(booking), content);
         }
+
+        @SneakyThrows
+        @Test
+        void should304_WhenETagMatches() {
+            when(service.getETag(Mockito.anyLong(), Mockito.anyLong()))
+                    .thenReturn("\"etag\"");
+
+            mvc.perform(get("/bookings/1")
+                            .header("X-Sharer-User-Id", 1)
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"etag\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"etag\""))
+                    .andExpect(content().string(""));
+
+            Mockito.verify(service, Mockito.never()).getById(Mockito.anyLong(), Mockito.anyLong());
+        }
     }
 
     @Nested
@@ -5,21 +5,27 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import ru.practicum.shareit.TestValueBuilder;
 import ru.practicum.shareit.booking.BookingRepository;
 import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.EState;
 import ru.practicum.shareit.booking.model.EStatus;
 import ru.practicum.shareit.exception.BadRequestException;
+import ru.practicum.shareit.exception.ConflictException;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.ItemBookingSummaryService;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.user.UserService;
@@ -42,6 +48,9 @@ public class BookingServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private ItemBookingSummaryService summaryService;
+
     @InjectMocks
     BookingService bookingService;
 
@@ -66,7 +75,7 @@ public class BookingServiceTest {
             when(userService.getById(Mockito.anyLong()))
                     .thenReturn(newUser);
 
-            when(itemRepository.findById(Mockito.anyLong()))
+            when(itemRepository.findWithRequestById(Mockito.anyLong()))
                     .thenReturn(Optional.of(item));
 
             when(bookingRepository.save(Mockito.any()))
@@ -77,12 +86,28 @@ public class BookingServiceTest {
             Assertions.assertNotNull(foundBooking);
         }
 
+        @Test
+        void shouldThrowConflictExceptionWhenApprovedBookingOverlaps() {
+            when(userService.getById(Mockito.anyLong()))
+                    .thenReturn(TestValueBuilder.createUserWithId(2L));
+
+            when(itemRepository.findWithRequestById(Mockito.anyLong()))
+                    .thenReturn(Optional.of(item));
+
+            when(bookingRepository.existsByItemIdAndStatusAndStartBeforeAndEndAfter(Mockito.anyLong(),
+                    Mockito.eq(EStatus.APPROVED), Mockito.any(), Mockito.any()))
+                    .thenReturn(true);
+
+            Assertions.assertThrows(ConflictException.class, () -> bookingService.save(bookingDto, 1L));
+            Mockito.verify(bookingRepository, Mockito.never()).save(Mockito.any());
+        }
+
         @Test
         void shouldThrowNotFoundExceptionWhenOwnerBooking() {
             when(userService.getById(Mockito.anyLong()))
                     .thenReturn(user);
 
-            when(itemRepository.findById(Mockito.anyLong()))
+            when(itemRepository.findWithRequestById(Mockito.anyLong()))
                     .thenReturn(Optional.of(item));
 
             Throwable throwable = Assertions.assertThrows(Exception.class, () -> bookingService.save(bookingDto, 1L));
@@ -98,7 +123,7 @@ public class BookingServiceTest {
             when(userService.getById(Mockito.anyLong()))
                     .thenReturn(user);
 
-            when(itemRepository.findById(Mockito.anyLong()))
+            when(itemRepository.findWithRequestById(Mockito.anyLong()))
                     .thenReturn(Optional.of(item));
 
             Throwable throwable = Assertions.assertThrows(Exception.class, () -> bookingService.save(bookingDto, 1L));
@@ -114,7 +139,7 @@ public class BookingServiceTest {
             when(userService.getById(Mockito.anyLong()))
                     .thenReturn(user);
 
-            when(itemRepository.findById(Mockito.anyLong()))
+            when(itemRepository.findWithRequestById(Mockito.anyLong()))
                     .thenReturn(Optional.of(item));
 
             Throwable throwable = Assertions.assertThrows(Exception.class, () -> bookingService.save(bookingDto, 1L));
@@ -130,7 +155,7 @@ public class BookingServiceTest {
             when(userService.getById(Mockito.anyLong()))
                     .thenReturn(user);
 
-            when(itemRepository.findById(Mockito.anyLong()))
+            when(itemRepository.findWithRequestById(Mockito.anyLong()))
                     .thenReturn(Optional.of(newItem));
 
             Throwable throwable = Assertions.assertThrows(Exception.class, () -> bookingService.save(bookingDto, 1L));
@@ -141,7 +166,7 @@ public class BookingServiceTest {
         @Test
         void shouldThrowNotFoundExceptionWhenItemAbsent() {
 
-            when(itemRepository.findById(Mockito.anyLong()))
+            when(itemRepository.findWithRequestById(Mockito.anyLong()))
                     .thenReturn(Optional.empty());
 
             Throwable throwable = Assertions.assertThrows(Exception.class, () -> bookingService.save(bookingDto, 1L));
@@ -166,6 +191,7 @@ public class BookingServiceTest {
             Booking update = bookingService.update(1L, true, 1L);
 
             Assertions.assertEquals(EStatus.APPROVED, update.getStatus());
+            Mockito.verify(summaryService).refresh(newBooking.getItem().getId());
         }
 
         @Test
@@ -182,6 +208,28 @@ public class BookingServiceTest {
             Booking update = bookingService.update(1L, false, 1L);
 
             Assertions.assertEquals(EStatus.REJECTED, update.getStatus());
+            Mockito.verify(summaryService, Mockito.never()).refresh(Mockito.anyLong());
+        }
+
+        @Test
+        void shouldThrowConflictExceptionWhenApprovalOverlapsApprovedBooking() {
+            Booking newBooking = TestValueBuilder.createBookingWithId();
+            newBooking.setStatus(EStatus.WAITING);
+
+            when(bookingRepository.findById(Mockito.anyLong()))
+                    .thenReturn(Optional.of(newBooking));
+
+            when(bookingRepository.existsByItemIdAndStatusAndStartBeforeAndEndAfter(Mockito.anyLong(),
+                    Mockito.eq(EStatus.APPROVED), Mockito.any(), Mockito.any()))
+                    .thenReturn(true);
+
+            Assertions.assertThrows(ConflictException.class, () -> bookingService.update(1L, true, 1L));
+
+            InOrder inOrder = Mockito.inOrder(itemRepository, bookingRepository);
+            inOrder.verify(itemRepository).lockById(newBooking.getItem().getId());
+            inOrder.verify(bookingRepository).existsByItemIdAndStatusAndStartBeforeAndEndAfter(Mockito.anyLong(),
+                    Mockito.any(), Mockito.any(), Mockito.any());
+            Mockito.verify(bookingRepository, Mockito.never()).save(Mockito.any());
         }
 
         @Test
@@ -429,4 +477,47 @@ public class BookingServiceTest {
             Assertions.assertEquals(1, all.size());
         }
     }
+
+    @Nested
+    class FindAllByCursor {
+        @Test
+        void shouldReturnFirstSliceWhenCursorIsEmpty() {
+            Slice<Booking> bookings = new SliceImpl<>(List.of(booking));
+
+            when(bookingRepository.findAllByBookerIdAfterCursor(Mockito.anyLong(),
+                    Mockito.any(),
+                    Mockito.eq(Long.MAX_VALUE),
+                    Mockito.any()))
+                    .thenReturn(bookings);
+
+            Slice<Booking> all = bookingService.findAllByCursor(1L, EState.ALL, "", 1, false);
+
+            Assertions.assertEquals(1, all.getNumberOfElements());
+        }
+
+        @Test
+        void shouldContinueAfterGivenCursor() {
+            Slice<Booking> bookings = new SliceImpl<>(List.of(booking));
+            String cursor = BookingCursor.of(booking).encode();
+
+            when(bookingRepository.findAllByOwnerIdAndStatusAfterCursor(Mockito.anyLong(),
+                    Mockito.eq(booking.getStart()),
+                    Mockito.eq(booking.getId()),
+                    Mockito.eq(EStatus.WAITING),
+                    Mockito.any()))
+                    .thenReturn(bookings);
+
+            Slice<Booking> all = bookingService.findAllByCursor(1L, EState.WAITING, cursor, 1, true);
+
+            Assertions.assertEquals(1, all.getNumberOfElements());
+        }
+
+        @Test
+        void shouldThrowBadRequestExceptionWhenCursorIsMalformed() {
+            Throwable throwable = Assertions.assertThrows(Exception.class,
+                    () -> bookingService.findAllByCursor(1L, EState.ALL, "not a cursor", 1, false));
+
+            Assertions.assertTrue(throwable instanceof BadRequestException);
+        }
+    }
 }
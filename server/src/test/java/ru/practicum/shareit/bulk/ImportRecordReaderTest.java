@@ -0,0 +1,74 @@
+package ru.practicum.shareit.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.booking.dto.BookingImportDto;
+import ru.practicum.shareit.booking.model.EStatus;
+import ru.practicum.shareit.item.dto.ItemShortDto;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class ImportRecordReaderTest {
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @SneakyThrows
+    @Test
+    void shouldReadNdjsonInChunksAndKeepLineNumbers() {
+        ImportRecordReader<ItemShortDto> reader = reader(ImportFormat.NDJSON, ItemShortDto.class,
+                "{\"name\":\"Drill\",\"description\":\"Cordless\",\"available\":true}\n" +
+                        "\n" +
+                        "{\"name\":\"Saw\",\n" +
+                        "{\"name\":\"Ladder\",\"description\":\"3m\",\"available\":false,\"requestId\":7}\n");
+
+        List<ImportRecord<ItemShortDto>> first = reader.nextChunk(2);
+        List<ImportRecord<ItemShortDto>> second = reader.nextChunk(2);
+
+        Assertions.assertEquals(2, first.size());
+        Assertions.assertEquals("Drill", first.get(0).getValue().getName());
+        Assertions.assertEquals(3, first.get(1).getLine());
+        Assertions.assertFalse(first.get(1).isValid());
+        Assertions.assertEquals(1, second.size());
+        Assertions.assertEquals(4, second.get(0).getLine());
+        Assertions.assertEquals(7L, second.get(0).getValue().getRequestId());
+        Assertions.assertTrue(reader.nextChunk(2).isEmpty());
+    }
+
+    @SneakyThrows
+    @Test
+    void shouldMapCsvColumnsByHeader() {
+        ImportRecordReader<BookingImportDto> reader = reader(ImportFormat.CSV, BookingImportDto.class,
+                "status,itemId,bookerId,start,end\n" +
+                        "APPROVED,1,2,2030-01-01T10:00:00,2030-01-02T10:00:00\n" +
+                        ",1,2,2030-02-01T10:00:00,2030-02-02T10:00:00\n" +
+                        "APPROVED,1\n");
+
+        List<ImportRecord<BookingImportDto>> records = reader.nextChunk(10);
+
+        Assertions.assertEquals(3, records.size());
+        BookingImportDto approved = records.get(0).getValue();
+        Assertions.assertEquals(EStatus.APPROVED, approved.getStatus());
+        Assertions.assertEquals(2L, approved.getBookerId());
+        Assertions.assertEquals(LocalDateTime.of(2030, 1, 1, 10, 0), approved.getStart());
+        Assertions.assertNull(records.get(1).getValue().getStatus());
+        Assertions.assertEquals(4, records.get(2).getLine());
+        Assertions.assertFalse(records.get(2).isValid());
+    }
+
+    @Test
+    void shouldParseQuotedCsvValues() {
+        Assertions.assertEquals(List.of("Drill", "Cordless, 18V", "say \"hi\"", ""),
+                ImportRecordReader.parseCsvLine("Drill,\"Cordless, 18V\",\"say \"\"hi\"\"\","));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ImportRecordReader.parseCsvLine("Drill,\"Cordless"));
+    }
+
+    private <T> ImportRecordReader<T> reader(ImportFormat format, Class<T> type, String body) {
+        return new ImportRecordReader<>(new BufferedReader(new StringReader(body)), format, mapper, type);
+    }
+}
@@ -0,0 +1,118 @@
+package ru.practicum.shareit.coalescing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.exception.NotFoundException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SingleFlightTest {
+    private static final int CALLERS = 16;
+
+    private MeterRegistry registry;
+    private SingleFlight<Long, String> flights;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        flights = new SingleFlight<>("test", registry);
+    }
+
+    @Test
+    void shouldRunLoaderOnceForConcurrentCallsWithSameKey() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> flights.execute(1L, () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "item";
+                })));
+            }
+            awaitCalls(CALLERS);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                Assertions.assertEquals("item", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals(1, count("executed"));
+        Assertions.assertEquals(CALLERS - 1, count("coalesced"));
+    }
+
+    @Test
+    void shouldRunLoaderAgainWhenPreviousFlightFinished() {
+        AtomicInteger loads = new AtomicInteger();
+
+        flights.execute(1L, () -> "item" + loads.incrementAndGet());
+        String second = flights.execute(1L, () -> "item" + loads.incrementAndGet());
+
+        Assertions.assertEquals("item2", second);
+        Assertions.assertEquals(0, count("coalesced"));
+    }
+
+    @Test
+    void shouldNotCoalesceDifferentKeys() {
+        Assertions.assertEquals("first", flights.execute(1L, () -> flights.execute(2L, () -> "first")));
+        Assertions.assertEquals(2, count("executed"));
+    }
+
+    @Test
+    void shouldPropagateLoaderExceptionToWaiters() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(() -> flights.execute(1L, () -> {
+                await(release);
+                throw new NotFoundException("Entity not found");
+            }));
+            awaitCalls(1);
+            Future<String> waiter = executor.submit(() -> flights.execute(1L, () -> "never"));
+            awaitCalls(2);
+            release.countDown();
+
+            for (Future<String> result : List.of(leader, waiter)) {
+                Exception e = Assertions.assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+                Assertions.assertTrue(e.getCause() instanceof NotFoundException);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private double count(String result) {
+        return registry.get("shareit.single.flight.calls").tag("result", result).counter().count();
+    }
+
+    private void awaitCalls(int calls) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count("executed") + count("coalesced") < calls && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
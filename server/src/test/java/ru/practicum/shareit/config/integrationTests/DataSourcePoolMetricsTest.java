@@ -0,0 +1,29 @@
+package ru.practicum.shareit.config.integrationTests;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.user.UserService;
+
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@SpringBootTest(
+        properties = "db.name=test",
+        webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class DataSourcePoolMetricsTest {
+    private final MeterRegistry registry;
+    private final UserService userService;
+
+    @Test
+    void shouldPublishPoolGaugesAndAcquireLatency() {
+        userService.getAll();
+
+        Assertions.assertNotNull(registry.find("hikaricp.connections.active").tag("pool", "shareit-primary").gauge());
+        Assertions.assertNotNull(registry.find("hikaricp.connections.idle").tag("pool", "shareit-primary").gauge());
+        Assertions.assertNotNull(registry.find("hikaricp.connections.pending").tag("pool", "shareit-primary").gauge());
+        Assertions.assertTrue(registry.get("hikaricp.connections.acquire").tag("pool", "shareit-primary")
+                .timer().count() > 0);
+    }
+}
@@ -0,0 +1,71 @@
+package ru.practicum.shareit.config.integrationTests;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ru.practicum.shareit.TestValueBuilder;
+import ru.practicum.shareit.user.UserService;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@Import(ReplicaRoutingTest.ReadThenWriteController.class)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@SpringBootTest(properties = {
+        "db.name=test",
+        "shareit.datasource.replica.jdbc-url=jdbc:h2:mem:shareit",
+        "shareit.datasource.replica.username=test",
+        "shareit.datasource.replica.password=test",
+        "shareit.datasource.replica.pool-name=shareit-replica"})
+class ReplicaRoutingTest {
+    private static final String PRIMARY = "shareit-primary";
+    private static final String REPLICA = "shareit-replica";
+
+    private final MockMvc mvc;
+    private final MeterRegistry registry;
+
+    @Test
+    void shouldWriteToPrimaryAfterReadOnlyCallInSameRequest() throws Exception {
+        double primaryBefore = acquired(PRIMARY);
+        double replicaBefore = acquired(REPLICA);
+
+        mvc.perform(post("/test/read-then-write/{userId}", 999L))
+                .andExpect(status().isOk());
+
+        Assertions.assertTrue(acquired(REPLICA) > replicaBefore);
+        Assertions.assertTrue(acquired(PRIMARY) > primaryBefore);
+    }
+
+    private double acquired(String pool) {
+        // A pool registers its meters only once it has started, on the first connection request.
+        Timer timer = registry.find("hikaricp.connections.acquire").tag("pool", pool).timer();
+        return timer != null ? timer.count() : 0;
+    }
+
+    @TestConfiguration
+    @RestController
+    @RequiredArgsConstructor
+    static class ReadThenWriteController {
+        private final UserService userService;
+
+        @PostMapping("/test/read-then-write/{userId}")
+        void readThenWrite(@PathVariable Long userId) {
+            Assertions.assertThrows(RuntimeException.class, () -> userService.checkExists(userId));
+            Long id = userService.create(TestValueBuilder.createCustomUserWithoutId("routing@user.com", "Routing"))
+                    .getId();
+            userService.deleteById(id);
+        }
+    }
+}
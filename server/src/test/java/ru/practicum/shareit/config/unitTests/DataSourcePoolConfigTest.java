@@ -0,0 +1,49 @@
+package ru.practicum.shareit.config.unitTests;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import ru.practicum.shareit.config.DataSourcePoolConfig;
+import ru.practicum.shareit.config.DataSourcePoolProperties;
+
+class DataSourcePoolConfigTest {
+    BeanPostProcessor customizer;
+
+    @BeforeEach
+    void setup() {
+        DataSourcePoolProperties properties = new DataSourcePoolProperties();
+        properties.setPrepareThreshold(3);
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("properties", properties);
+        customizer = DataSourcePoolConfig.hikariPoolCustomizer(
+                beanFactory.getBeanProvider(DataSourcePoolProperties.class));
+    }
+
+    @Test
+    void shouldEnableStatementCachingForPostgres() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:postgresql://localhost:5432/shareit");
+
+        customizer.postProcessBeforeInitialization(dataSource, "replicaDataSource");
+
+        Assertions.assertEquals(3, dataSource.getDataSourceProperties().get("prepareThreshold"));
+        Assertions.assertEquals(256, dataSource.getDataSourceProperties().get("preparedStatementCacheQueries"));
+        Assertions.assertEquals(true, dataSource.getDataSourceProperties().get("reWriteBatchedInserts"));
+        Assertions.assertEquals("replicaDataSource", dataSource.getPoolName());
+    }
+
+    @Test
+    void shouldLeaveOtherDriversAndNamedPoolsUntouched() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:shareit");
+        dataSource.setPoolName("shareit-primary");
+
+        customizer.postProcessBeforeInitialization(dataSource, "dataSource");
+
+        Assertions.assertTrue(dataSource.getDataSourceProperties().isEmpty());
+        Assertions.assertEquals("shareit-primary", dataSource.getPoolName());
+    }
+}
@@ -0,0 +1,47 @@
+package ru.practicum.shareit.config.unitTests;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.config.ReadReplicaRoutingDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+class ReadReplicaRoutingDataSourceTest {
+    ReadReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setup() {
+        dataSource = new ReadReplicaRoutingDataSource();
+        dataSource.setTargetDataSources(Map.of(
+                ReadReplicaRoutingDataSource.Target.PRIMARY, new DriverManagerDataSource("jdbc:h2:mem:primary"),
+                ReadReplicaRoutingDataSource.Target.REPLICA, new DriverManagerDataSource("jdbc:h2:mem:replica")));
+        dataSource.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void cleanup() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void shouldUsePrimaryOutsideReadOnlyTransaction() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            Assertions.assertEquals("jdbc:h2:mem:primary", connection.getMetaData().getURL());
+        }
+    }
+
+    @Test
+    void shouldUseReplicaInsideReadOnlyTransaction() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        try (Connection connection = dataSource.getConnection()) {
+            Assertions.assertEquals("jdbc:h2:mem:replica", connection.getMetaData().getURL());
+        }
+    }
+}
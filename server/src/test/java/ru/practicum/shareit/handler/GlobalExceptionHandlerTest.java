@@ -2,8 +2,11 @@ package ru.practicum.shareit.handler;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import ru.practicum.shareit.exception.BadRequestException;
+import ru.practicum.shareit.exception.ConflictException;
 import ru.practicum.shareit.exception.PermissionException;
 
 public class GlobalExceptionHandlerTest {
@@ -23,6 +26,28 @@ public class GlobalExceptionHandlerTest {
         Assertions.assertEquals(response.getStatusCode().value(), 400);
     }
 
+    @Test
+    void shouldThrowConflictException() {
+        ConflictException exception = new ConflictException("exception");
+        ResponseEntity<GlobalExceptionHandler.ErrorInfo> response = handler.conflictExceptionHandler(exception);
+        Assertions.assertEquals(response.getStatusCode().value(), 409);
+    }
+
+    @Test
+    void shouldMapOptimisticLockingFailureToConflict() {
+        OptimisticLockingFailureException exception = new OptimisticLockingFailureException("exception");
+        ResponseEntity<GlobalExceptionHandler.ErrorInfo> response = handler.optimisticLockingFailureExceptionHandler(exception);
+        Assertions.assertEquals(response.getStatusCode().value(), 409);
+    }
+
+    @Test
+    void shouldMapOverlapConstraintViolationToConflict() {
+        DataIntegrityViolationException exception = new DataIntegrityViolationException("exception",
+                new RuntimeException("conflicting key value violates exclusion constraint \"bookings_no_overlap\""));
+        ResponseEntity<GlobalExceptionHandler.ErrorInfo> response = handler.dataIntegrityViolationExceptionHandler(exception);
+        Assertions.assertEquals(response.getStatusCode().value(), 409);
+    }
+
     @Test
     void shouldThrowConversionFailedException() {
         RuntimeException exception = new RuntimeException();
@@ -14,6 +14,8 @@ import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.TestValueBuilder;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.ItemController;
+import ru.practicum.shareit.item.ItemImportService;
+import ru.practicum.shareit.item.ItemLookupCoalescer;
 import ru.practicum.shareit.item.ItemService;
 import ru.practicum.shareit.item.dto.ItemShortDto;
 import ru.practicum.shareit.user.model.User;
@@ -34,6 +36,10 @@ class ItemControllerTest {
     private MockMvc mockMvc;
     @MockBean
     private ItemService itemService;
+    @MockBean
+    private ItemLookupCoalescer itemLookupCoalescer;
+    @MockBean
+    private ItemImportService itemImportService;
 
     private static User user;
     private static ItemShortDto itemShortDto;
@@ -9,18 +9,35 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import ru.practicum.shareit.TestValueBuilder;
+import ru.practicum.shareit.booking.BookingController;
+import ru.practicum.shareit.bulk.ImportController;
+import ru.practicum.shareit.bulk.ImportFormat;
+import ru.practicum.shareit.bulk.ImportReport;
+import ru.practicum.shareit.bulk.ImportStatus;
 import ru.practicum.shareit.item.ItemController;
+import ru.practicum.shareit.item.ItemImportService;
+import ru.practicum.shareit.item.ItemLookupCoalescer;
 import ru.practicum.shareit.item.ItemService;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemSearchCursor;
+import ru.practicum.shareit.item.dto.ItemSearchHit;
 import ru.practicum.shareit.item.dto.ItemShortDto;
 
+import java.util.List;
+
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +46,12 @@ public class ItemControllerTest {
     @Mock
     private ItemService service;
 
+    @Mock
+    private ItemLookupCoalescer lookup;
+
+    @Mock
+    private ItemImportService importService;
+
     @InjectMocks
     private ItemController controller;
 
@@ -76,6 +99,47 @@ public class ItemControllerTest {
         }
     }
 
+    @Nested
+    class Import {
+        @SneakyThrows
+        @Test
+        void should200_WhenBodyIsNdjson() {
+            ImportReport report = ImportReport.builder()
+                    .id("import-1")
+                    .type(ItemImportService.IMPORT_TYPE)
+                    .userId(1L)
+                    .status(ImportStatus.COMPLETED)
+                    .processed(1)
+                    .imported(1)
+                    .errors(List.of())
+                    .build();
+            when(importService.importItems(Mockito.eq(1L), Mockito.eq("import-1"),
+                    Mockito.startsWith(ImportFormat.NDJSON_VALUE), Mockito.any()))
+                    .thenReturn(report);
+
+            mvc.perform(post("/items/import")
+                            .header("X-Sharer-User-Id", 1)
+                            .header(ImportController.IMPORT_ID_HEADER, "import-1")
+                            .contentType(ImportFormat.NDJSON_VALUE)
+                            .content(mapper.writeValueAsString(shortDto)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.imported").value(1))
+                    .andExpect(jsonPath("$.status").value("COMPLETED"));
+        }
+
+        @SneakyThrows
+        @Test
+        void should415_WhenBodyIsJson() {
+            mvc.perform(post("/items/import")
+                            .header("X-Sharer-User-Id", 1)
+                            .contentType(APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(shortDto)))
+                    .andExpect(status().isUnsupportedMediaType());
+
+            Mockito.verifyNoInteractions(importService);
+        }
+    }
+
     @Nested
     class Create {
         @SneakyThrows
@@ -125,7 +189,9 @@ public class ItemControllerTest {
         void should201_WhenInputIsValid() {
             ItemDto dto = TestValueBuilder.createItemDto();
 
-            when(service.getById(Mockito.anyLong(), Mockito.anyLong()))
+            when(service.getETag(Mockito.anyLong(), Mockito.anyLong()))
+                    .thenReturn("\"etag\"");
+            when(lookup.getById(Mockito.anyLong(), Mockito.anyLong(), Mockito.eq("\"etag\"")))
                     .thenReturn(dto);
 
             String content = mvc.perform(get("/items/1")
@@ -139,6 +205,85 @@ public class ItemControllerTest {
 
             Assertions.assertEquals(mapper.writeValueAsString(dto), content);
         }
+
+        @SneakyThrows
+        @Test
+        void should304_WhenETagMatches() {
+            when(service.getETag(Mockito.anyLong(), Mockito.anyLong()))
+                    .thenReturn("\"etag\"");
+
+            mvc.perform(get("/items/1")
+                            .header("X-Sharer-User-Id", 1)
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"etag\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"etag\""))
+                    .andExpect(content().string(""));
+
+            Mockito.verify(lookup, Mockito.never()).getById(Mockito.anyLong(), Mockito.anyLong(), Mockito.anyString());
+        }
+    }
+
+    @Nested
+    class SearchByCursor {
+        @SneakyThrows
+        @Test
+        void should200_WithNextCursor_WhenMoreHitsExist() {
+            ItemSearchHit hit = new ItemSearchHit(3L, "Drill", "Cordless", true, 1);
+
+            when(service.getItemsByTextAfterCursor("drill", "", 1))
+                    .thenReturn(new SliceImpl<>(List.of(hit), PageRequest.of(0, 1), true));
+
+            mvc.perform(get("/items/search")
+                            .param("text", "drill")
+                            .param("size", "1")
+                            .param("cursor", ""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(BookingController.NEXT_CURSOR_HEADER, new ItemSearchCursor(3L).encode()))
+                    .andExpect(jsonPath("$[0].id").value(3))
+                    .andExpect(jsonPath("$[0].name").value("Drill"));
+        }
+
+        @SneakyThrows
+        @Test
+        void should200_WithoutNextCursor_OnLastPage() {
+            when(service.getItemsByTextAfterCursor("drill", "", 10))
+                    .thenReturn(new SliceImpl<>(List.of()));
+
+            mvc.perform(get("/items/search")
+                            .param("text", "drill")
+                            .param("size", "10")
+                            .param("cursor", ""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(BookingController.NEXT_CURSOR_HEADER))
+                    .andExpect(content().json("[]"));
+        }
+    }
+
+    @Nested
+    class Count {
+        @SneakyThrows
+        @Test
+        void should200_WhenOwnerCountsItems() {
+            when(service.countByUserId(1L))
+                    .thenReturn(2L);
+
+            mvc.perform(get("/items/count")
+                            .header("X-Sharer-User-Id", 1))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.total").value(2));
+        }
+
+        @SneakyThrows
+        @Test
+        void should200_WhenSearchIsCounted() {
+            when(service.countByText("drill"))
+                    .thenReturn(7L);
+
+            mvc.perform(get("/items/search/count")
+                            .param("text", "drill"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.total").value(7));
+        }
     }
 
 //    @Nested
@@ -53,4 +53,17 @@ public class ItemMapperTest {
         Assertions.assertEquals(nextBooking.getId(), dto.getLastBooking().getId());
         Assertions.assertEquals(comments, dto.getComments());
     }
+
+    @Test
+    void shouldPatchOnlyNonNullFields() {
+        Item item = TestValueBuilder.createItemWithId();
+        String description = item.getDescription();
+        Boolean available = item.getAvailable();
+
+        ItemMapper.patch(Item.builder().name("Updated").build(), item);
+
+        Assertions.assertEquals("Updated", item.getName());
+        Assertions.assertEquals(description, item.getDescription());
+        Assertions.assertEquals(available, item.getAvailable());
+    }
 }
@@ -0,0 +1,91 @@
+package ru.practicum.shareit.item.repository.integrationTests;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import ru.practicum.shareit.TestValueBuilder;
+import ru.practicum.shareit.item.dto.ItemSearchCursor;
+import ru.practicum.shareit.item.dto.ItemSearchHit;
+import ru.practicum.shareit.item.dto.ItemShortDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.List;
+
+@DataJpaTest
+public class ItemRepositoryTest {
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setup() {
+        user = userRepository.save(TestValueBuilder.createUserWithoutId());
+    }
+
+    @Test
+    void findByTextShouldSkipUnavailableItemsMatchedByName() {
+        Item available = TestValueBuilder.createItemWithId();
+        available.setId(null);
+        available.setUser(user);
+        itemRepository.save(available);
+
+        Item unavailable = TestValueBuilder.createItemWithId();
+        unavailable.setId(null);
+        unavailable.setUser(user);
+        unavailable.setAvailable(false);
+        itemRepository.save(unavailable);
+
+        Slice<ItemShortDto> items = itemRepository.findByText("mouse", PageRequest.of(0, 10));
+
+        Assertions.assertEquals(1, items.getNumberOfElements());
+        Assertions.assertEquals(1, itemRepository.countByText("mouse"));
+        Assertions.assertTrue(items.getContent().get(0).getAvailable());
+    }
+
+    @Test
+    void findByTextAfterCursorShouldSeekPastCursorInIdOrder() {
+        Long described = save("Pad", "Wireless mouse pad", true);
+        Long contains = save("Wireless mouse", "Small", true);
+        Long prefix = save("Mouse", "Optical", true);
+        save("Mouse trap", "Spring", false);
+        Long secondPrefix = save("mouse button", "Spare", true);
+
+        Slice<ItemSearchHit> first = itemRepository.findByTextAfterCursor("mouse", 0L, PageRequest.of(0, 2));
+        ItemSearchCursor cursor = ItemSearchCursor.decode(ItemSearchCursor.of(first).encode());
+        Slice<ItemSearchHit> second = itemRepository.findByTextAfterCursor("mouse", cursor.getId(),
+                PageRequest.of(0, 2));
+
+        Assertions.assertEquals(List.of(described, contains), ids(first));
+        Assertions.assertEquals(List.of(2, 1), first.map(ItemSearchHit::getRank).getContent());
+        Assertions.assertTrue(first.hasNext());
+        Assertions.assertEquals(List.of(prefix, secondPrefix), ids(second));
+        Assertions.assertEquals(List.of(0, 0), second.map(ItemSearchHit::getRank).getContent());
+        Assertions.assertFalse(second.hasNext());
+        Assertions.assertEquals(List.of(prefix, secondPrefix, contains, described),
+                itemRepository.findByText("mouse", PageRequest.of(0, 10)).map(ItemShortDto::getId).getContent());
+    }
+
+    private Long save(String name, String description, boolean available) {
+        return itemRepository.save(Item.builder()
+                .name(name)
+                .description(description)
+                .available(available)
+                .user(user)
+                .build()).getId();
+    }
+
+    private static List<Long> ids(Slice<ItemSearchHit> hits) {
+        return hits.map(ItemSearchHit::getId).getContent();
+    }
+}
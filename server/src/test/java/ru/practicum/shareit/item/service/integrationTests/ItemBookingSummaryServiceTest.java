@@ -0,0 +1,96 @@
+package ru.practicum.shareit.item.service.integrationTests;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.TestValueBuilder;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.EStatus;
+import ru.practicum.shareit.item.ItemBookingSummaryService;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.ItemBookingSummary;
+import ru.practicum.shareit.item.repository.ItemBookingSummaryRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+
+@Transactional
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@SpringBootTest(
+        properties = "db.name=test",
+        webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class ItemBookingSummaryServiceTest {
+    private final UserService userService;
+    private final ItemService itemService;
+    private final BookingService bookingService;
+    private final ItemBookingSummaryService summaryService;
+    private final ItemBookingSummaryRepository summaryRepository;
+    private final ItemRepository itemRepository;
+    private final BookingRepository bookingRepository;
+
+    private User owner;
+    private User booker;
+    private Long itemId;
+
+    @BeforeEach
+    void setUp() {
+        owner = userService.create(TestValueBuilder.createCustomUserWithoutId("owner@user.com", "Owner"));
+        booker = userService.create(TestValueBuilder.createCustomUserWithoutId("booker@user.com", "Booker"));
+        itemId = itemService.create(owner.getId(),
+                TestValueBuilder.createAvailableItemShortDto("Item", "Item desc")).getId();
+    }
+
+    @Test
+    void shouldStoreNextBookingWhenBookingApproved() {
+        BookingDto bookingDto = TestValueBuilder.createBookingDto();
+        bookingDto.setItemId(itemId);
+        Booking booking = bookingService.save(bookingDto, booker.getId());
+
+        Assertions.assertTrue(summaryRepository.findById(itemId).isEmpty());
+
+        bookingService.update(booking.getId(), true, owner.getId());
+
+        ItemBookingSummary summary = summaryRepository.findById(itemId).orElseThrow();
+        Assertions.assertNull(summary.getLastBooking());
+        Assertions.assertEquals(booking.getId(), summary.getNextBooking().getBookingId());
+        Assertions.assertNotNull(summary.getRefreshAt());
+
+        ItemDto item = itemService.getById(itemId, owner.getId());
+        Assertions.assertNull(item.getLastBooking());
+        Assertions.assertEquals(booking.getId(), item.getNextBooking().getId());
+        Assertions.assertEquals(booker.getId(), item.getNextBooking().getBookerId());
+    }
+
+    @Test
+    void shouldMoveStartedBookingToLastWhenSwept() {
+        Booking booking = bookingRepository.save(Booking.builder()
+                .item(itemRepository.findById(itemId).orElseThrow())
+                .booker(booker)
+                .start(LocalDateTime.now().minusHours(2))
+                .end(LocalDateTime.now().minusHours(1))
+                .status(EStatus.APPROVED)
+                .build());
+        summaryRepository.save(ItemBookingSummary.builder()
+                .itemId(itemId)
+                .refreshAt(LocalDateTime.now().minusMinutes(1))
+                .build());
+
+        Assertions.assertEquals(1, summaryService.refreshStale(10));
+
+        ItemBookingSummary summary = summaryRepository.findById(itemId).orElseThrow();
+        Assertions.assertEquals(booking.getId(), summary.getLastBooking().getBookingId());
+        Assertions.assertNull(summary.getNextBooking());
+        Assertions.assertNull(summary.getRefreshAt());
+        Assertions.assertEquals(0, summaryService.refreshStale(10));
+    }
+}
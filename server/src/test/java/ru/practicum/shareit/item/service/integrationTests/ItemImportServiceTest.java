@@ -0,0 +1,163 @@
+package ru.practicum.shareit.item.service.integrationTests;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.TestValueBuilder;
+import ru.practicum.shareit.bulk.BulkImporter;
+import ru.practicum.shareit.bulk.ImportFormat;
+import ru.practicum.shareit.bulk.ImportReport;
+import ru.practicum.shareit.bulk.ImportStatus;
+import ru.practicum.shareit.exception.BadRequestException;
+import ru.practicum.shareit.exception.ConflictException;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.ItemImportService;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.model.User;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@SpringBootTest(
+        properties = {
+                "db.name=test",
+                "shareit.import.chunk-size=50",
+                "spring.jpa.properties.hibernate.generate_statistics=true"
+        },
+        webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class ItemImportServiceTest {
+    private final ItemImportService importService;
+    private final BulkImporter importer;
+    private final UserService userService;
+    private final ItemRepository itemRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = userService.create(TestValueBuilder.createCustomUserWithoutId(
+                "owner" + System.nanoTime() + "@user.com", "Owner"));
+    }
+
+    @Test
+    void shouldImportNdjsonItemsInBatches() {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            body.append(String.format("{\"name\":\"Item %d\",\"description\":\"Desc %d\",\"available\":true}%n", i, i));
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ImportReport report = importService.importItems(owner.getId(), null, ImportFormat.NDJSON_VALUE,
+                stream(body.toString()));
+
+        Assertions.assertEquals(ImportStatus.COMPLETED, report.getStatus());
+        Assertions.assertEquals(100, report.getImported());
+        Assertions.assertEquals(100, itemRepository.countByUserId(owner.getId()));
+        Assertions.assertEquals(100, statistics.getEntityInsertCount());
+        Assertions.assertTrue(statistics.getPrepareStatementCount() < 10,
+                "prepared statements: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldReportRejectedCsvRecordsAndKeepValidOnes() {
+        String body = "name,description,available,requestId\n" +
+                "Drill,\"Cordless, 18V\",true,\n" +
+                ",No name,true,\n" +
+                "Ladder,3m,,\n" +
+                "Saw,Hand saw,false,999999\n" +
+                "Hammer,Steel,false,\n";
+
+        ImportReport report = importService.importItems(owner.getId(), "csv-" + owner.getId(),
+                ImportFormat.CSV_VALUE + ";charset=UTF-8", stream(body));
+
+        Assertions.assertEquals(5, report.getProcessed());
+        Assertions.assertEquals(2, report.getImported());
+        Assertions.assertEquals(3, report.getFailed());
+        Assertions.assertEquals(3, report.getErrors().get(0).getLine());
+        Assertions.assertEquals("Name is blank", report.getErrors().get(0).getMessage());
+        Assertions.assertEquals("Availability is missing", report.getErrors().get(1).getMessage());
+        Assertions.assertEquals("Request not found", report.getErrors().get(2).getMessage());
+        Assertions.assertEquals(report, importer.getReport("csv-" + owner.getId(), owner.getId()));
+    }
+
+    @Test
+    void shouldRejectImportIdOfRunningImportAndHideReportFromOtherUsers() {
+        String importId = "items-" + owner.getId();
+        String item = "{\"name\":\"Item\",\"description\":\"Desc\",\"available\":true}\n";
+        AtomicReference<RuntimeException> nested = new AtomicReference<>();
+        InputStream body = new SequenceInputStream(stream(item), new InputStream() {
+            @Override
+            public int read() {
+                nested.set(Assertions.assertThrows(RuntimeException.class,
+                        () -> importService.importItems(owner.getId(), importId, ImportFormat.NDJSON_VALUE,
+                                stream(""))));
+                return -1;
+            }
+        });
+
+        importService.importItems(owner.getId(), importId, ImportFormat.NDJSON_VALUE, body);
+
+        User other = userService.create(TestValueBuilder.createCustomUserWithoutId(
+                "other" + System.nanoTime() + "@user.com", "Other"));
+
+        Assertions.assertInstanceOf(ConflictException.class, nested.get());
+        Assertions.assertThrows(ConflictException.class,
+                () -> importService.importItems(other.getId(), importId, ImportFormat.NDJSON_VALUE, stream("")));
+        Assertions.assertThrows(NotFoundException.class, () -> importer.getReport(importId, other.getId()));
+    }
+
+    @Test
+    void shouldReplaceFailedReportWhenImportIsRetried() {
+        String importId = "retry-" + owner.getId();
+        InputStream broken = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Connection reset");
+            }
+        };
+        Assertions.assertThrows(BadRequestException.class,
+                () -> importService.importItems(owner.getId(), importId, ImportFormat.NDJSON_VALUE, broken));
+        Assertions.assertEquals(ImportStatus.FAILED, importer.getReport(importId, owner.getId()).getStatus());
+
+        ImportReport report = importService.importItems(owner.getId(), importId, ImportFormat.NDJSON_VALUE,
+                stream("{\"name\":\"Item\",\"description\":\"Desc\",\"available\":true}"));
+
+        Assertions.assertEquals(ImportStatus.COMPLETED, report.getStatus());
+        Assertions.assertEquals(1, report.getImported());
+        Assertions.assertEquals(report, importer.getReport(importId, owner.getId()));
+    }
+
+    @Test
+    void shouldNotHandOutIdsOfItemsInsertedOutsideHibernate() {
+        String item = "{\"name\":\"Item\",\"description\":\"Desc\",\"available\":true}";
+        importService.importItems(owner.getId(), null, ImportFormat.NDJSON_VALUE, stream(item));
+
+        jdbcTemplate.update("insert into items (user_id, name, description, available) " +
+                "values (?, 'Outside', 'Inserted by SQL', true)", owner.getId());
+        ImportReport report = importService.importItems(owner.getId(), null, ImportFormat.NDJSON_VALUE,
+                stream(item + "\n" + item));
+
+        Assertions.assertEquals(ImportStatus.COMPLETED, report.getStatus());
+        Assertions.assertEquals(4, itemRepository.countByUserId(owner.getId()));
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -7,16 +7,21 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.TestValueBuilder;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.ItemService;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemShortDto;
+import ru.practicum.shareit.pagination.Paging;
 import ru.practicum.shareit.user.UserService;
 import ru.practicum.shareit.user.model.User;
 
 import java.util.List;
+import java.util.Locale;
 
 @Transactional
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
@@ -26,6 +31,7 @@ import java.util.List;
 class ItemServiceTest {
     private final UserService userService;
     private final ItemService itemService;
+    private final CacheManager cacheManager;
 
     static User user;
     static ItemShortDto itemShortDto;
@@ -69,4 +75,24 @@ class ItemServiceTest {
             Assertions.assertTrue(content.isEmpty());
         }
     }
-}
\ No newline at end of file
+
+    // Cache writes are deferred to commit, so these tests run without the rolled-back test transaction.
+    @Nested
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    class CountByText {
+        @Test
+        void shouldKeyCountIndependentlyOfDefaultLocale() {
+            Locale locale = Locale.getDefault();
+            Locale.setDefault(new Locale("tr", "TR"));
+            try {
+                itemService.countByText("bike");
+            } finally {
+                Locale.setDefault(locale);
+            }
+
+            Cache counts = cacheManager.getCache(Paging.TOTAL_COUNTS_CACHE);
+            Assertions.assertNotNull(counts.get(List.of("search", "BIKE")));
+            counts.evict(List.of("search", "BIKE"));
+        }
+    }
+}
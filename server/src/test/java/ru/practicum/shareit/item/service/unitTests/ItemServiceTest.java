@@ -12,19 +12,28 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import ru.practicum.shareit.TestValueBuilder;
 import ru.practicum.shareit.booking.BookingRepository;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.exception.BadRequestException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.exception.PermissionException;
 import ru.practicum.shareit.item.ItemService;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemSearchCursor;
+import ru.practicum.shareit.item.dto.ItemSearchHit;
 import ru.practicum.shareit.item.dto.ItemShortDto;
+import ru.practicum.shareit.item.model.BookingSnapshot;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemBookingSummary;
 import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemBookingSummaryRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.user.model.User;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,6 +50,9 @@ public class ItemServiceTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private ItemBookingSummaryRepository summaryRepository;
+
     @InjectMocks
     private ItemService itemService;
 
@@ -48,6 +60,8 @@ public class ItemServiceTest {
     static Booking booking;
     static User user;
     static Item item;
+    static ItemBookingSummary freshSummary;
+    static ItemBookingSummary staleSummary;
 
     @BeforeAll
     static void before() {
@@ -55,7 +69,22 @@ public class ItemServiceTest {
         user = TestValueBuilder.createUserWithId(1L);
         booking = TestValueBuilder.createBookingWithId();
         item = TestValueBuilder.createItemWithId();
-
+        BookingSnapshot snapshot = BookingSnapshot.builder()
+                .bookingId(booking.getId())
+                .bookerId(booking.getBooker().getId())
+                .start(booking.getStart())
+                .end(booking.getEnd())
+                .build();
+        freshSummary = ItemBookingSummary.builder()
+                .itemId(item.getId())
+                .lastBooking(snapshot)
+                .nextBooking(snapshot)
+                .refreshAt(LocalDateTime.now().plusDays(1))
+                .build();
+        staleSummary = ItemBookingSummary.builder()
+                .itemId(item.getId())
+                .refreshAt(LocalDateTime.now().minusDays(1))
+                .build();
     }
 
     @Nested
@@ -69,6 +98,30 @@ public class ItemServiceTest {
             when(commentRepository.findAllByItem_Id(Mockito.anyLong()))
                     .thenReturn(List.of());
 
+            when(summaryRepository.findById(Mockito.anyLong()))
+                    .thenReturn(Optional.of(freshSummary));
+
+            ItemDto itemDto = itemService.getById(1L, 1L);
+
+            Assertions.assertEquals(itemDto.getName(), item.getName());
+            Assertions.assertEquals(booking.getId(), itemDto.getLastBooking().getId());
+            Assertions.assertEquals(booking.getId(), itemDto.getNextBooking().getId());
+            Assertions.assertNotNull(itemDto.getComments());
+            Mockito.verifyNoInteractions(bookingRepository);
+        }
+
+        @Test
+        void shouldQueryBookingsWhenSummaryIsStale() {
+
+            when(itemRepository.findById(Mockito.any()))
+                    .thenReturn(Optional.of(item));
+
+            when(commentRepository.findAllByItem_Id(Mockito.anyLong()))
+                    .thenReturn(List.of());
+
+            when(summaryRepository.findById(Mockito.anyLong()))
+                    .thenReturn(Optional.of(staleSummary));
+
             when(bookingRepository.findFirstByItemIdAndStatusAndStartBeforeOrderByEndDesc(Mockito.anyLong(),
                     Mockito.any(), Mockito.any()))
                     .thenReturn(booking);
@@ -105,16 +158,19 @@ public class ItemServiceTest {
             when(itemRepository.findAllByUserIdOrderByIdAsc(Mockito.any(), Mockito.any()))
                     .thenReturn(page);
 
-            when(commentRepository.findAllByItem_Id(Mockito.anyLong()))
+            when(summaryRepository.findAllById(Mockito.anyIterable()))
+                    .thenReturn(List.of(staleSummary));
+
+            when(commentRepository.findAllByItem_IdIn(Mockito.anyCollection()))
                     .thenReturn(List.of());
 
-            when(bookingRepository.findFirstByItemIdAndStatusAndStartBeforeOrderByEndDesc(Mockito.anyLong(),
+            when(bookingRepository.findAllLastBookingsByItemIds(Mockito.anyCollection(),
                     Mockito.any(), Mockito.any()))
-                    .thenReturn(booking);
+                    .thenReturn(List.of(booking));
 
-            when(bookingRepository.findFirstByItemIdAndStatusAndStartAfterOrderByStartAsc(Mockito.anyLong(),
+            when(bookingRepository.findAllNextBookingsByItemIds(Mockito.anyCollection(),
                     Mockito.any(), Mockito.any()))
-                    .thenReturn(booking);
+                    .thenReturn(List.of(booking));
 
             List<ItemDto> itemDto = itemService.getAllByUserId(1L, 1, 1);
 
@@ -128,22 +184,73 @@ public class ItemServiceTest {
             when(itemRepository.findAllByUserIdOrderByIdAsc(Mockito.any(), Mockito.any()))
                     .thenReturn(page);
 
-            when(commentRepository.findAllByItem_Id(Mockito.anyLong()))
+            when(summaryRepository.findAllById(Mockito.anyIterable()))
+                    .thenReturn(List.of(staleSummary));
+
+            when(commentRepository.findAllByItem_IdIn(Mockito.anyCollection()))
                     .thenReturn(List.of());
 
-            when(bookingRepository.findFirstByItemIdAndStatusAndStartBeforeOrderByEndDesc(Mockito.anyLong(),
+            when(bookingRepository.findAllLastBookingsByItemIds(Mockito.anyCollection(),
                     Mockito.any(), Mockito.any()))
-                    .thenReturn(booking);
+                    .thenReturn(List.of(booking));
 
-            when(bookingRepository.findFirstByItemIdAndStatusAndStartAfterOrderByStartAsc(Mockito.anyLong(),
+            when(bookingRepository.findAllNextBookingsByItemIds(Mockito.anyCollection(),
                     Mockito.any(), Mockito.any()))
-                    .thenReturn(booking);
+                    .thenReturn(List.of(booking));
 
             List<ItemDto> itemDto = itemService.getAllByUserId(1L, 1, 1);
 
             Assertions.assertEquals(itemDto.size(), 1);
         }
 
+        @Test
+        void shouldAttachCommentsAndBookingsToEachItem() {
+            Page<Item> page = new PageImpl<>(List.of(item), PageRequest.of(0, 1), 0);
+
+            when(itemRepository.findAllByUserIdOrderByIdAsc(Mockito.any(), Mockito.any()))
+                    .thenReturn(page);
+
+            when(summaryRepository.findAllById(Mockito.anyIterable()))
+                    .thenReturn(List.of(staleSummary));
+
+            when(commentRepository.findAllByItem_IdIn(Mockito.anyCollection()))
+                    .thenReturn(List.of(TestValueBuilder.createCommentWithId(user, item)));
+
+            when(bookingRepository.findAllLastBookingsByItemIds(Mockito.anyCollection(),
+                    Mockito.any(), Mockito.any()))
+                    .thenReturn(List.of(booking));
+
+            when(bookingRepository.findAllNextBookingsByItemIds(Mockito.anyCollection(),
+                    Mockito.any(), Mockito.any()))
+                    .thenReturn(List.of());
+
+            List<ItemDto> itemDto = itemService.getAllByUserId(1L, 0, 1);
+
+            Assertions.assertEquals(1, itemDto.get(0).getComments().size());
+            Assertions.assertNotNull(itemDto.get(0).getLastBooking());
+            Assertions.assertNull(itemDto.get(0).getNextBooking());
+        }
+
+        @Test
+        void shouldTakeBookingsFromFreshSummary() {
+            Page<Item> page = new PageImpl<>(List.of(item), PageRequest.of(0, 1), 0);
+
+            when(itemRepository.findAllByUserIdOrderByIdAsc(Mockito.any(), Mockito.any()))
+                    .thenReturn(page);
+
+            when(summaryRepository.findAllById(Mockito.anyIterable()))
+                    .thenReturn(List.of(freshSummary));
+
+            when(commentRepository.findAllByItem_IdIn(Mockito.anyCollection()))
+                    .thenReturn(List.of());
+
+            List<ItemDto> itemDto = itemService.getAllByUserId(1L, 0, 1);
+
+            Assertions.assertEquals(booking.getId(), itemDto.get(0).getLastBooking().getId());
+            Assertions.assertEquals(booking.getId(), itemDto.get(0).getNextBooking().getId());
+            Mockito.verifyNoInteractions(bookingRepository);
+        }
+
         @Test
         void shouldReturnEmptyListWhenItemNotFound() {
             Page<Item> page = new PageImpl<>(List.of(), PageRequest.of(0, 1), 0);
@@ -161,7 +268,7 @@ public class ItemServiceTest {
     class GetByText {
         @Test
         void shouldReturnNoEmptyList() {
-            Page<Item> page = new PageImpl<>(List.of(item), PageRequest.of(0, 1), 0);
+            Page<ItemShortDto> page = new PageImpl<>(List.of(itemShortDto), PageRequest.of(0, 1), 0);
 
             when(itemRepository.findByText(Mockito.any(), Mockito.any()))
                     .thenReturn(page);
@@ -173,7 +280,7 @@ public class ItemServiceTest {
 
         @Test
         void shouldReturnNoEmptyListWhenPageIsNotExist() {
-            Page<Item> page = new PageImpl<>(List.of(item), PageRequest.of(8, 1), 0);
+            Page<ItemShortDto> page = new PageImpl<>(List.of(itemShortDto), PageRequest.of(8, 1), 0);
 
             when(itemRepository.findByText(Mockito.any(), Mockito.any()))
                     .thenReturn(page);
@@ -185,7 +292,7 @@ public class ItemServiceTest {
 
         @Test
         void shouldReturnEmptyListWhenItemNotFound() {
-            Page<Item> page = new PageImpl<>(List.of(), PageRequest.of(0, 1), 0);
+            Page<ItemShortDto> page = new PageImpl<>(List.of(), PageRequest.of(0, 1), 0);
 
             when(itemRepository.findByText(Mockito.any(), Mockito.any()))
                     .thenReturn(page);
@@ -194,6 +301,41 @@ public class ItemServiceTest {
 
             Assertions.assertTrue(itemDto.isEmpty());
         }
+        @Test
+        void shouldSeekPastCursorAndRankWithinPage() {
+            ItemSearchHit described = new ItemSearchHit(2L, "name", "text description", true, 2);
+            ItemSearchHit prefix = new ItemSearchHit(3L, "text", "description", true, 0);
+            String cursor = new ItemSearchCursor(1L).encode();
+
+            when(itemRepository.findByTextAfterCursor("text", 1L, PageRequest.of(0, 2)))
+                    .thenReturn(new SliceImpl<>(List.of(described, prefix), PageRequest.of(0, 2), true));
+
+            Slice<ItemSearchHit> hits = itemService.getItemsByTextAfterCursor("text", cursor, 2);
+
+            Assertions.assertEquals(List.of(prefix, described), hits.getContent());
+            Assertions.assertTrue(hits.hasNext());
+            Assertions.assertEquals(3L, ItemSearchCursor.of(hits).getId());
+        }
+
+        @Test
+        void shouldRejectInvalidCursor() {
+            Assertions.assertThrows(BadRequestException.class,
+                    () -> itemService.getItemsByTextAfterCursor("text", "not a cursor", 1));
+        }
+
+        @Test
+        void shouldCountMatchingItems() {
+            when(itemRepository.countByText("text"))
+                    .thenReturn(3L);
+
+            Assertions.assertEquals(3, itemService.countByText("text"));
+        }
+
+        @Test
+        void shouldCountNothingForBlankText() {
+            Assertions.assertEquals(0, itemService.countByText(" "));
+            Mockito.verifyNoInteractions(itemRepository);
+        }
     }
 
     @Nested
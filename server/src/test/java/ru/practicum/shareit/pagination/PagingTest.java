@@ -0,0 +1,58 @@
+package ru.practicum.shareit.pagination;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+public class PagingTest {
+
+    @Test
+    void shouldReturnContentWithoutCountingWhenSliceHasContent() {
+        Slice<Integer> slice = new SliceImpl<>(List.of(1, 2), PageRequest.of(3, 2), false);
+
+        List<Integer> content = Paging.getContent(slice, new PaginationProperties(),
+                () -> {
+                    throw new AssertionError("count must not be called");
+                },
+                page -> {
+                    throw new AssertionError("loader must not be called");
+                });
+
+        Assertions.assertEquals(List.of(1, 2), content);
+    }
+
+    @Test
+    void shouldLoadLastPageWhenRequestedPageIsOutOfRange() {
+        Slice<Integer> slice = new SliceImpl<>(List.of(), PageRequest.of(99, 2), false);
+
+        List<Integer> content = Paging.getContent(slice, new PaginationProperties(),
+                () -> 5,
+                page -> {
+                    Assertions.assertEquals(2, page.getPageNumber());
+                    return new SliceImpl<>(List.of(5), page, false);
+                });
+
+        Assertions.assertEquals(List.of(5), content);
+    }
+
+    @Test
+    void shouldReturnEmptyListWhenClampingIsDisabled() {
+        PaginationProperties properties = new PaginationProperties();
+        properties.setClampToLastPage(false);
+        Slice<Integer> slice = new SliceImpl<>(List.of(), PageRequest.of(99, 2), false);
+
+        List<Integer> content = Paging.getContent(slice, properties,
+                () -> {
+                    throw new AssertionError("count must not be called");
+                },
+                page -> {
+                    throw new AssertionError("loader must not be called");
+                });
+
+        Assertions.assertTrue(content.isEmpty());
+    }
+}
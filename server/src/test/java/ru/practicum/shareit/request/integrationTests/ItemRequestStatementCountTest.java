@@ -0,0 +1,76 @@
+package ru.practicum.shareit.request.integrationTests;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.TestValueBuilder;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.ItemRequestService;
+import ru.practicum.shareit.request.dto.ItemRequestDtoForClient;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+@Transactional
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@SpringBootTest(
+        properties = {"db.name=test", "spring.jpa.properties.hibernate.generate_statistics=true"},
+        webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class ItemRequestStatementCountTest {
+    private static final int REQUESTS = 20;
+    private static final int ITEMS_PER_REQUEST = 2;
+
+    private final ItemRequestService itemRequestService;
+    private final EntityManager entityManager;
+
+    private Statistics statistics;
+    private User owner;
+
+    @BeforeEach
+    void setup() {
+        User requester = TestValueBuilder.createCustomUserWithoutId("requester@user.com", "Requester");
+        entityManager.persist(requester);
+        owner = TestValueBuilder.createCustomUserWithoutId("owner@user.com", "Owner");
+        entityManager.persist(owner);
+
+        for (int i = 0; i < REQUESTS; i++) {
+            ItemRequest request = TestValueBuilder.createItemRequest(requester);
+            request.setId(null);
+            entityManager.persist(request);
+
+            for (int j = 0; j < ITEMS_PER_REQUEST; j++) {
+                Item item = TestValueBuilder.createItemWithId();
+                item.setId(null);
+                item.setUser(owner);
+                item.setRequest(request);
+                entityManager.persist(item);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, REQUESTS})
+    void requestFeedShouldUseConstantNumberOfStatements(int size) {
+        List<ItemRequestDtoForClient> requests = itemRequestService.getAll(owner.getId(), 0, size);
+
+        Assertions.assertEquals(size, requests.size());
+        requests.forEach(request -> Assertions.assertEquals(ITEMS_PER_REQUEST, request.getItems().size()));
+        Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+    }
+}
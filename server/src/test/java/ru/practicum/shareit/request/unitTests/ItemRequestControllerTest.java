@@ -9,6 +9,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import ru.practicum.shareit.TestValueBuilder;
@@ -24,6 +25,8 @@ import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -126,11 +129,28 @@ public class ItemRequestControllerTest {
         }
     }
 
+    @Nested
+    class CountAll {
+        @SneakyThrows
+        @Test
+        void should200_WithTotal() {
+            when(service.countAll(1L))
+                    .thenReturn(4L);
+
+            mvc.perform(get("/requests/all/count")
+                            .header("X-Sharer-User-Id", 1))
+                    .andExpect(status().isOk())
+                    .andExpect(content().json("{\"total\":4}"));
+        }
+    }
+
     @Nested
     class GetById {
         @SneakyThrows
         @Test
         void should201_WhenInputIsValid() {
+            when(service.getETag(Mockito.anyLong(), Mockito.anyLong()))
+                    .thenReturn("\"etag\"");
             when(service.getById(Mockito.anyLong(), Mockito.anyLong()))
                     .thenReturn(dtoForClient);
 
@@ -144,5 +164,21 @@ public class ItemRequestControllerTest {
 
             Assertions.assertEquals(mapper.writeValueAsString(dtoForClient), content);
         }
+
+        @SneakyThrows
+        @Test
+        void should304_WhenETagMatches() {
+            when(service.getETag(Mockito.anyLong(), Mockito.anyLong()))
+                    .thenReturn("\"etag\"");
+
+            mvc.perform(get("/requests/1")
+                            .header("X-Sharer-User-Id", 1)
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"etag\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"etag\""))
+                    .andExpect(content().string(""));
+
+            Mockito.verify(service, Mockito.never()).getById(Mockito.anyLong(), Mockito.anyLong());
+        }
     }
 }
@@ -13,7 +13,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import ru.practicum.shareit.TestValueBuilder;
 import ru.practicum.shareit.exception.NotFoundException;
-import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.dto.ItemShortDto;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.request.ItemRequestService;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
@@ -24,6 +24,7 @@ import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.UserService;
 import ru.practicum.shareit.user.model.User;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -78,9 +79,6 @@ public class ItemRequestServiceTest {
     class GetAllByOwnerId {
         @Test
         void shouldReturnListItemRequestDtoWhenInputIsValid() {
-            when(userService.getById(Mockito.anyLong()))
-                    .thenReturn(user);
-
             when(itemRequestRepository.findAllByUserIdOrderByCreatedDesc(Mockito.anyLong()))
                     .thenReturn(List.of(itemRequest));
 
@@ -88,15 +86,22 @@ public class ItemRequestServiceTest {
 
             Assertions.assertFalse(allByOwnerId.isEmpty());
         }
+
+        @Test
+        void shouldThrowNotFoundExceptionWhenUserAbsent() {
+            Mockito.doThrow(new NotFoundException("Entity not found"))
+                    .when(userService).checkExists(Mockito.anyLong());
+
+            Throwable throwable = Assertions.assertThrows(Exception.class, () -> itemRequestService.getAllByOwnerId(1L));
+
+            Assertions.assertTrue(throwable instanceof NotFoundException);
+        }
     }
 
     @Nested
     class GetById {
         @Test
         void shouldGetItemRequestWhenInputIsValid() {
-            when(userService.getById(Mockito.anyLong()))
-                    .thenReturn(user);
-
             when(itemRequestRepository.findById(Mockito.anyLong()))
                     .thenReturn(Optional.of(itemRequest));
 
@@ -107,9 +112,6 @@ public class ItemRequestServiceTest {
 
         @Test
         void shouldThrowNotFoundExceptionWhenItemRequestNotFound() {
-            when(userService.getById(Mockito.anyLong()))
-                    .thenReturn(user);
-
             when(itemRequestRepository.findById(Mockito.anyLong()))
                     .thenReturn(Optional.empty());
 
@@ -123,18 +125,38 @@ public class ItemRequestServiceTest {
     class GetAll {
         @Test
         void shouldReturnNoEmptyListWhenInputIsValid() {
-            Page<ItemRequest> content = new PageImpl<>(List.of(itemRequest));
+            Page<ItemRequestDtoForClient> content = new PageImpl<>(List.of(
+                    new ItemRequestDtoForClient(itemRequest.getId(), itemRequest.getDescription(), itemRequest.getCreated())));
 
             when(itemRequestRepository.findAllAnotherRequest(Mockito.anyLong(), Mockito.any()))
                     .thenReturn(content);
 
-            List<Item> items = Collections.emptyList();
-            when(itemRepository.findAllByRequestId(Mockito.anyLong()))
-                    .thenReturn(items);
+            when(itemRepository.findAllByRequestIdIn(Mockito.anyCollection()))
+                    .thenReturn(Collections.emptyList());
 
             List<ItemRequestDtoForClient> itemRequests = itemRequestService.getAll(1L, 0, 1);
 
             Assertions.assertFalse(itemRequests.isEmpty());
         }
+
+        @Test
+        void shouldAttachItemsToTheirRequests() {
+            Page<ItemRequestDtoForClient> content = new PageImpl<>(List.of(
+                    new ItemRequestDtoForClient(1L, "First", LocalDateTime.now()),
+                    new ItemRequestDtoForClient(2L, "Second", LocalDateTime.now())));
+
+            when(itemRequestRepository.findAllAnotherRequest(Mockito.anyLong(), Mockito.any()))
+                    .thenReturn(content);
+
+            ItemShortDto item = TestValueBuilder.createAvailableItemShortDto("Mouse", "Mouse for PC");
+            item.setRequestId(2L);
+            when(itemRepository.findAllByRequestIdIn(Mockito.anyCollection()))
+                    .thenReturn(List.of(item));
+
+            List<ItemRequestDtoForClient> itemRequests = itemRequestService.getAll(1L, 0, 2);
+
+            Assertions.assertTrue(itemRequests.get(0).getItems().isEmpty());
+            Assertions.assertEquals(List.of(item), itemRequests.get(1).getItems());
+        }
     }
 }
@@ -0,0 +1,44 @@
+package ru.practicum.shareit.schema;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest
+public class QueryPlanTest {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "select * from bookings where item_id = 1 and status = 'APPROVED' and start_booking < current_timestamp",
+            "select * from bookings where user_id = 1 order by start_booking desc",
+            "select * from bookings where user_id = 1 and status = 'WAITING' order by start_booking desc",
+            "select b.* from bookings b join items i on b.item_id = i.id where i.user_id = 1 order by b.start_booking desc",
+            "select * from items where user_id = 1 order by id",
+            "select * from items where request_id = 1",
+            "select * from items where available = true and id > 1 order by id",
+            "select * from comments where item_id = 1",
+            "select * from requests where user_id = 1 order by created desc"
+    })
+    void repositoryQueriesShouldUseIndexes(String sql) {
+        String plan = jdbcTemplate.queryForObject("explain " + sql, String.class);
+
+        Assertions.assertNotNull(plan);
+        Assertions.assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    // A keyset search page must stop after the page, not sort every remaining match first.
+    @Test
+    void keysetSearchShouldReadItemsInIdOrder() {
+        String plan = jdbcTemplate.queryForObject("explain select id from items where available = true and id > 1 " +
+                "and (upper(name) like '%A%' or upper(description) like '%A%') order by id limit 21", String.class);
+
+        Assertions.assertNotNull(plan);
+        Assertions.assertTrue(plan.contains("index sorted"), plan);
+    }
+}
@@ -0,0 +1,58 @@
+package ru.practicum.shareit.user.mapper;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.TestValueBuilder;
+import ru.practicum.shareit.user.UserMapper;
+import ru.practicum.shareit.user.model.User;
+
+public class UserMapperTest {
+
+    @Test
+    void shouldPatchNameAndEmailIfBothArePresent() {
+        User target = TestValueBuilder.createUserWithId(1L);
+        User source = User.builder().name("Updated").email("updated@user.com").build();
+
+        UserMapper.patch(source, target);
+
+        Assertions.assertEquals(1L, target.getId());
+        Assertions.assertEquals("Updated", target.getName());
+        Assertions.assertEquals("updated@user.com", target.getEmail());
+    }
+
+    @Test
+    void shouldKeepEmailIfOnlyNameIsPresent() {
+        User target = TestValueBuilder.createUserWithId(1L);
+        String email = target.getEmail();
+        User source = User.builder().name("Updated").build();
+
+        UserMapper.patch(source, target);
+
+        Assertions.assertEquals("Updated", target.getName());
+        Assertions.assertEquals(email, target.getEmail());
+    }
+
+    @Test
+    void shouldKeepNameIfOnlyEmailIsPresent() {
+        User target = TestValueBuilder.createUserWithId(1L);
+        String name = target.getName();
+        User source = User.builder().email("updated@user.com").build();
+
+        UserMapper.patch(source, target);
+
+        Assertions.assertEquals(name, target.getName());
+        Assertions.assertEquals("updated@user.com", target.getEmail());
+    }
+
+    @Test
+    void shouldKeepEverythingIfNothingIsPresent() {
+        User target = TestValueBuilder.createUserWithId(1L);
+        String name = target.getName();
+        String email = target.getEmail();
+
+        UserMapper.patch(User.builder().build(), target);
+
+        Assertions.assertEquals(name, target.getName());
+        Assertions.assertEquals(email, target.getEmail());
+    }
+}
@@ -7,8 +7,11 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.test.annotation.Rollback;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.TestValueBuilder;
 import ru.practicum.shareit.exception.NotFoundException;
@@ -29,6 +32,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
         webEnvironment = SpringBootTest.WebEnvironment.NONE)
 public class UserServiceTest {
     private final UserService service;
+    private final CacheManager cacheManager;
     static User user;
 
     @BeforeAll
@@ -116,11 +120,74 @@ public class UserServiceTest {
         @Rollback
         @Test
         void shouldDeleteById() {
-            service.create(user);
+            Long id = service.create(user).getId();
 
-            service.deleteById(1L);
+            service.deleteById(id);
 
             Assertions.assertTrue(service.getAll().isEmpty());
         }
     }
+
+    // Cache writes are deferred to commit, so these tests run without the rolled-back test transaction.
+    @Nested
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    class Caching {
+        @Test
+        void shouldCacheUserOnGetAndEvictOnDelete() {
+            Long id = service.create(TestValueBuilder.createCustomUserWithoutId("cache@user.com", "Cache")).getId();
+
+            service.getById(id);
+            Assertions.assertNotNull(cacheManager.getCache(UserService.USERS_CACHE).get(id));
+
+            service.deleteById(id);
+            Assertions.assertNull(cacheManager.getCache(UserService.USERS_CACHE).get(id));
+        }
+
+        @Test
+        void shouldRefreshCachedUserOnUpdate() {
+            Long id = service.create(TestValueBuilder.createCustomUserWithoutId("cached@user.com", "Cache")).getId();
+            service.getById(id);
+
+            service.update(id, User.builder().name("Updated").build());
+
+            Assertions.assertEquals("Updated", service.getById(id).getName());
+            service.deleteById(id);
+        }
+
+        @Test
+        void shouldKeepCommittedUserInCacheWhenUpdateFails() {
+            Long id = service.create(TestValueBuilder.createCustomUserWithoutId("first@user.com", "First")).getId();
+            Long otherId = service.create(TestValueBuilder.createCustomUserWithoutId("second@user.com", "Second"))
+                    .getId();
+            service.getById(id);
+
+            Assertions.assertThrows(DataIntegrityViolationException.class,
+                    () -> service.update(id, User.builder().email("second@user.com").build()));
+
+            Assertions.assertEquals("first@user.com", service.getById(id).getEmail());
+            Assertions.assertFalse(cacheManager.getCache(UserService.USERS_CACHE).get(id).get() instanceof User);
+            service.deleteById(id);
+            service.deleteById(otherId);
+        }
+    }
+
+    @Nested
+    class CheckExists {
+        @Rollback
+        @Test
+        void shouldPassWhenUserExists() {
+            Long id = service.create(TestValueBuilder.createCustomUserWithoutId("exists@user.com", "Exists")).getId();
+
+            Assertions.assertDoesNotThrow(() -> service.checkExists(id));
+        }
+
+        @Rollback
+        @Test
+        void shouldThrowNotFoundExceptionWhenUserNotFound() {
+            NotFoundException exception = assertThrows(NotFoundException.class,
+                    () -> service.checkExists(99L));
+
+            Assertions.assertNotNull(exception);
+        }
+    }
 }
@@ -65,7 +65,7 @@ class UserServiceTest {
 
         @Test
         void shouldThrowNotFoundExceptionWhenUserAbsent() {
-            when(repository.findById(Mockito.anyLong())).thenReturn(Optional.empty());
+            when(repository.findDtoById(Mockito.anyLong())).thenReturn(Optional.empty());
 
             NotFoundException exception = assertThrows(NotFoundException.class,
                     () -> service.getById(1L));